@@ -0,0 +1,98 @@
+package bayern.steinbrecher.dbConnector;
+
+import bayern.steinbrecher.dbConnector.scheme.ColumnPattern;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Provides entries as a tab separated file suitable for {@code LOAD DATA INFILE}. The entries are serialized lazily
+ * line by line while the stream is read so the whole file is never held in memory.
+ *
+ * @param <E> The type of the entries to serialize.
+ * @author Stefan Huber
+ * @since 0.16
+ */
+class BulkLoadInputStream<E> extends InputStream {
+    private static final byte[] EMPTY_LINE = new byte[0];
+    private final Iterator<? extends E> entries;
+    private final List<DBConnection.Column<E, ?>> columns;
+    private byte[] currentLine = EMPTY_LINE;
+    private int position = 0;
+
+    /**
+     * @param columns The columns whose values to serialize for each entry. Each column has to be associated with a
+     *                pattern.
+     */
+    BulkLoadInputStream(@NotNull Iterator<? extends E> entries, @NotNull List<DBConnection.Column<E, ?>> columns) {
+        this.entries = Objects.requireNonNull(entries);
+        this.columns = Objects.requireNonNull(columns);
+        for (DBConnection.Column<E, ?> column : columns) {
+            if (column.pattern().isEmpty()) {
+                throw new IllegalArgumentException(String.format(
+                        "Cannot serialize values of column '%s' since there is no associated pattern", column.name()));
+            }
+        }
+    }
+
+    @NotNull
+    private static <E, C> String getBulkValue(@NotNull DBConnection.Column<E, C> column, @NotNull E entry) {
+        ColumnPattern<C, E> pattern = column.pattern()
+                .orElseThrow();
+        return pattern.getBulkValue(entry, column.name());
+    }
+
+    /**
+     * Serializes the next entry into {@link #currentLine}.
+     *
+     * @return {@code false} if and only if there are no more entries.
+     */
+    private boolean nextLine() {
+        boolean hasNextLine = entries.hasNext();
+        if (hasNextLine) {
+            E entry = entries.next();
+            StringBuilder line = new StringBuilder();
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    line.append('\t');
+                }
+                line.append(getBulkValue(columns.get(i), entry));
+            }
+            line.append('\n');
+            currentLine = line.toString()
+                    .getBytes(StandardCharsets.UTF_8);
+            position = 0;
+        }
+        return hasNextLine;
+    }
+
+    @Override
+    public int read() {
+        while (position >= currentLine.length) {
+            if (!nextLine()) {
+                return -1;
+            }
+        }
+        return currentLine[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte @NotNull [] buffer, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0) {
+            return 0;
+        }
+        int numRead = 0;
+        while (numRead < length && (position < currentLine.length || nextLine())) {
+            int numCopy = Math.min(length - numRead, currentLine.length - position);
+            System.arraycopy(currentLine, position, buffer, offset + numRead, numCopy);
+            position += numCopy;
+            numRead += numCopy;
+        }
+        return numRead == 0 ? -1 : numRead;
+    }
+}
@@ -0,0 +1,338 @@
+package bayern.steinbrecher.dbConnector;
+
+import bayern.steinbrecher.dbConnector.query.FullScanPolicy;
+import bayern.steinbrecher.dbConnector.query.QueryFailedException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Decorates a {@link DBConnection} with a cache for the results of {@link #execQuery(String)}. Results are cached by
+ * the exact SQL code of the query. Any statement passed to {@link #execUpdate(String)} invalidates all cached results
+ * which read any of the tables the statement modifies. Statements whose modified tables can not be determined and
+ * statements changing the structure of tables invalidate all cached results. Results of queries depending on the
+ * current time or on random values are never cached. Neither are results which exceed the result memory budget and
+ * are therefore spilled to disk. Cached results are shared between all callers requesting them and are therefore
+ * unmodifiable.
+ * NOTE Modifications which are not executed through this connection (e.g. by other clients) are only reflected after
+ * cached results expired.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public final class CachingConnection extends DBConnection {
+    /**
+     * Matches any reference to a table (optionally qualified by a database name) like {@code FROM `db`.`table`}. The
+     * name of the table is captured by the group "table".
+     */
+    private static final Pattern TABLE_REFERENCE_PATTERN = Pattern.compile(
+            "\\b(?:FROM|JOIN|INTO|UPDATE|TABLE)\\s+(?:(?:`[^`]+`|\\w+)\\s*\\.\\s*)?(?<table>`[^`]+`|\\w+)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern STRUCTURE_CHANGE_PATTERN = Pattern.compile(
+            "^\\s*(?:CREATE|ALTER|DROP|RENAME|TRUNCATE)\\b", Pattern.CASE_INSENSITIVE);
+    /**
+     * Matches calls of functions whose results differ between executions even if no table changed.
+     */
+    private static final Pattern NON_DETERMINISTIC_PATTERN = Pattern.compile(
+            "\\b(?:NOW|CURRENT_TIMESTAMP|CURRENT_TIME|CURRENT_DATE|CURDATE|CURTIME|SYSDATE|UNIX_TIMESTAMP|RAND|UUID)"
+                    + "\\s*\\(", Pattern.CASE_INSENSITIVE);
+    private final DBConnection connection;
+    private final Cache<String, CachedResult> cache;
+    /**
+     * Incremented by each invalidation. A result is only cached if no invalidation happened while requesting it.
+     */
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    /**
+     * @param connection  The connection to cache query results of. It is closed when this connection is closed.
+     * @param maximumSize The maximum number of query results to cache.
+     * @param timeToLive  The duration after which a cached result expires.
+     * @since 0.16
+     */
+    public CachingConnection(@NotNull DBConnection connection, long maximumSize, @NotNull Duration timeToLive) {
+        super(connection.getDatabaseName(), connection.getDbms());
+        this.connection = connection;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Objects.requireNonNull(timeToLive))
+                .recordStats()
+                .build();
+        super.setMaxDeduplicatedValues(connection.getMaxDeduplicatedValues());
+        super.setResultMemoryBudget(connection.getResultMemoryBudget());
+        super.setFullScanGuard(connection.getFullScanPolicy(), connection.getFullScanThreshold());
+    }
+
+    /**
+     * Returns the names of all tables the given SQL code refers to in lower case.
+     *
+     * @return The names of the tables. {@link Optional#empty()} if no table could be determined.
+     */
+    @NotNull
+    private static Optional<Set<String>> extractTableNames(@NotNull String sqlCode) {
+        Set<String> tableNames = new HashSet<>();
+        Matcher matcher = TABLE_REFERENCE_PATTERN.matcher(sqlCode);
+        while (matcher.find()) {
+            tableNames.add(matcher.group("table")
+                    .replace("`", "")
+                    .toLowerCase(Locale.ROOT));
+        }
+        return tableNames.isEmpty() ? Optional.empty() : Optional.of(tableNames);
+    }
+
+    /**
+     * Wraps the given result and its rows into unmodifiable views without copying any value.
+     */
+    @NotNull
+    @Unmodifiable
+    private static List<List<String>> makeUnmodifiable(@NotNull List<List<String>> result) {
+        List<List<String>> rows = new ArrayList<>(result.size());
+        for (List<String> row : result) {
+            rows.add(Collections.unmodifiableList(row));
+        }
+        return Collections.unmodifiableList(rows);
+    }
+
+    /**
+     * Returns the cached result of the given query if there is any. Otherwise the query is executed and its result is
+     * cached if possible.
+     *
+     * @return The result of the query. If the result is cached it is unmodifiable and shared with other callers.
+     * Results which are not cached are returned as the decorated connection returned them.
+     * @since 0.16
+     */
+    @NotNull
+    @Override
+    public List<List<String>> execQuery(@NotNull String sqlCode) throws QueryFailedException {
+        CachedResult cachedResult = cache.getIfPresent(sqlCode);
+        if (cachedResult == null) {
+            long invalidationCountBeforeQuery = invalidationCount.get();
+            List<List<String>> result = connection.execQuery(sqlCode);
+            Optional<Set<String>> tableNames = extractTableNames(sqlCode);
+            // NOTE Results of queries whose tables are unknown could never be invalidated selectively
+            boolean cacheable = tableNames.isPresent() && !NON_DETERMINISTIC_PATTERN.matcher(sqlCode).find()
+                    // NOTE Caching spilled results would keep all of their rows on the heap
+                    && !(result instanceof SpillingResultList spillingResult && spillingResult.isSpilled());
+            if (!cacheable) {
+                return result;
+            }
+            // NOTE The rows are owned by this connection from now on so they are not copied
+            cachedResult = new CachedResult(tableNames.get(), makeUnmodifiable(result));
+            synchronized (invalidationCount) {
+                if (invalidationCount.get() == invalidationCountBeforeQuery) {
+                    cache.put(sqlCode, cachedResult);
+                }
+            }
+        }
+        return cachedResult.result();
+    }
+
+    /**
+     * Sets the maximum number of deduplicated values of this connection and of the decorated connection which actually
+     * executes the queries.
+     *
+     * @since 0.16
+     */
+    @Override
+    public void setMaxDeduplicatedValues(int maxDeduplicatedValues) {
+        super.setMaxDeduplicatedValues(maxDeduplicatedValues);
+        connection.setMaxDeduplicatedValues(maxDeduplicatedValues);
+    }
+
+    /**
+     * Sets the result memory budget of this connection and of the decorated connection which actually executes the
+     * queries. Results exceeding the budget are not cached.
+     *
+     * @since 0.16
+     */
+    @Override
+    public void setResultMemoryBudget(long resultMemoryBudget) {
+        super.setResultMemoryBudget(resultMemoryBudget);
+        connection.setResultMemoryBudget(resultMemoryBudget);
+    }
+
+    /**
+     * Sets the full scan guard of this connection and of the decorated connection.
+     *
+     * @since 0.16
+     */
+    @Override
+    public void setFullScanGuard(@NotNull FullScanPolicy policy, long threshold) {
+        super.setFullScanGuard(policy, threshold);
+        connection.setFullScanGuard(policy, threshold);
+    }
+
+    /**
+     * Executes the given statement and invalidates all cached results which may be affected by the statement.
+     *
+     * @since 0.16
+     */
+    @Override
+    public void execUpdate(@NotNull String sqlCode) throws QueryFailedException {
+        try {
+            connection.execUpdate(sqlCode);
+        } finally {
+            invalidateFor(sqlCode);
+        }
+    }
+
+    /**
+     * Executes the given statements and invalidates all cached results which may be affected by any of them.
+     *
+     * @since 0.16
+     */
+    @Override
+    public void execUpdates(@NotNull List<String> sqlCodes) throws QueryFailedException {
+        try {
+            connection.execUpdates(sqlCodes);
+        } finally {
+            for (String sqlCode : sqlCodes) {
+                invalidateFor(sqlCode);
+            }
+        }
+    }
+
+    /**
+     * Executes the given statements and invalidates all cached results which may be affected by any of them.
+     *
+     * @since 0.16
+     */
+    @Override
+    @NotNull
+    public List<Long> execUpdatesAtomically(@NotNull List<String> sqlCodes) throws QueryFailedException {
+        try {
+            return connection.execUpdatesAtomically(sqlCodes);
+        } finally {
+            for (String sqlCode : sqlCodes) {
+                invalidateFor(sqlCode);
+            }
+        }
+    }
+
+    private void invalidateFor(@NotNull String sqlCode) {
+        // NOTE Even a failed statement may have modified tables partially
+        Optional<Set<String>> tableNames = extractTableNames(sqlCode);
+        if (tableNames.isEmpty() || STRUCTURE_CHANGE_PATTERN.matcher(sqlCode).find()) {
+            invalidateAll();
+        } else {
+            invalidate(tableNames.get());
+        }
+    }
+
+    /**
+     * Removes all cached results which read any of the given tables.
+     *
+     * @param tableNames The names of the tables. The case of the names is ignored.
+     * @since 0.16
+     */
+    public void invalidate(@NotNull Set<String> tableNames) {
+        Set<String> lowerCaseTableNames = new HashSet<>();
+        for (String tableName : tableNames) {
+            lowerCaseTableNames.add(tableName.toLowerCase(Locale.ROOT));
+        }
+        synchronized (invalidationCount) {
+            invalidationCount.incrementAndGet();
+            cache.asMap()
+                    .values()
+                    .removeIf(cachedResult -> cachedResult.tableNames()
+                            .stream()
+                            .anyMatch(lowerCaseTableNames::contains));
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     *
+     * @since 0.16
+     */
+    public void invalidateAll() {
+        synchronized (invalidationCount) {
+            invalidationCount.incrementAndGet();
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Returns statistics about hits, misses and evictions of the cached results since this connection was created.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    public CacheStatistics getCacheStatistics() {
+        CacheStats stats = cache.stats();
+        return new CacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+    /**
+     * Returns the number of currently cached results.
+     *
+     * @since 0.16
+     */
+    public long getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * Closes the decorated connection and removes all cached results.
+     *
+     * @since 0.16
+     */
+    @Override
+    public void close() {
+        invalidateAll();
+        connection.close();
+    }
+
+    /**
+     * @param tableNames The names of the tables the query reads in lower case.
+     * @param result     The unmodifiable result of the query.
+     */
+    private record CachedResult(
+            Set<String> tableNames,
+            @Unmodifiable List<List<String>> result) {
+    }
+
+    /**
+     * Statistics about the cached results of a {@link CachingConnection}.
+     *
+     * @param hitCount      The number of queries which were answered by a cached result.
+     * @param missCount     The number of queries which had to be executed by the decorated connection.
+     * @param evictionCount The number of results which were removed from the cache since it was full or since they
+     *                      expired. Invalidated results are not counted.
+     * @since 0.16
+     */
+    public record CacheStatistics(
+            long hitCount,
+            long missCount,
+            long evictionCount) {
+        /**
+         * Returns the number of queries which were passed to {@link #execQuery(String)}.
+         */
+        public long requestCount() {
+            return hitCount + missCount;
+        }
+
+        /**
+         * Returns the ratio of queries which were answered by a cached result. If there were no queries yet the ratio
+         * is 1.
+         */
+        public double hitRate() {
+            long requestCount = requestCount();
+            return (requestCount == 0) ? 1 : ((double) hitCount / requestCount);
+        }
+    }
+}
@@ -1,21 +1,37 @@
 package bayern.steinbrecher.dbConnector;
 
+import bayern.steinbrecher.dbConnector.query.Aggregation;
+import bayern.steinbrecher.dbConnector.query.AggregationResult;
+import bayern.steinbrecher.dbConnector.query.FingerprintStrategy;
+import bayern.steinbrecher.dbConnector.query.FullScanPolicy;
 import bayern.steinbrecher.dbConnector.query.GenerationFailedException;
+import bayern.steinbrecher.dbConnector.query.QueryCondition;
 import bayern.steinbrecher.dbConnector.query.QueryFailedException;
 import bayern.steinbrecher.dbConnector.query.QueryGenerator;
+import bayern.steinbrecher.dbConnector.query.QueryPlan;
 import bayern.steinbrecher.dbConnector.query.SupportedDBMS;
 import bayern.steinbrecher.dbConnector.scheme.ColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.IndexScheme;
+import bayern.steinbrecher.dbConnector.scheme.ParseException;
 import bayern.steinbrecher.dbConnector.scheme.SimpleColumnPattern;
 import bayern.steinbrecher.dbConnector.scheme.TableScheme;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -27,9 +43,20 @@ import java.util.stream.Stream;
  */
 public abstract class DBConnection implements AutoCloseable {
 
+    /**
+     * Represents the number of rows affected by a statement if it can not be determined.
+     *
+     * @since 0.16
+     */
+    public static final long UNKNOWN_AFFECTED_ROWS = -1;
     private static final Logger LOGGER = Logger.getLogger(DBConnection.class.getName());
     private final String databaseName;
     private final SupportedDBMS dbms;
+    private FullScanPolicy fullScanPolicy = FullScanPolicy.IGNORE;
+    private long fullScanThreshold = 0;
+    private volatile int maxDeduplicatedValues = 0;
+    private volatile long resultMemoryBudget = Long.MAX_VALUE;
+    private final ReentrantLock sessionLock = new ReentrantLock();
 
     /**
      * @since 0.1
@@ -45,6 +72,19 @@ public abstract class DBConnection implements AutoCloseable {
     @Override
     public abstract void close();
 
+    /**
+     * Returns the lock guarding the database session of this connection. Transactions hold it for their whole
+     * duration. Hence connections which execute statements of all threads within a single session have to hold it
+     * while executing any statement. Otherwise statements of other threads become part of a running transaction and
+     * are committed or rolled back along with it.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    protected final ReentrantLock getSessionLock() {
+        return sessionLock;
+    }
+
     /**
      * Executes a query and returns the result.
      *
@@ -65,6 +105,214 @@ public abstract class DBConnection implements AutoCloseable {
      */
     public abstract void execUpdate(@NotNull String sqlCode) throws QueryFailedException;
 
+    /**
+     * Executes multiple commands like INSERT INTO, UPDATE or CREATE in the given order. Connections may send all
+     * commands at once instead of one roundtrip per command. The default implementation executes them one by one.
+     * NOTE The commands are not executed atomically, i.e. if a command fails previous commands may already be applied.
+     *
+     * @param sqlCodes The sql codes to execute.
+     * @throws QueryFailedException Thrown if any of the sql codes is invalid.
+     * @since 0.16
+     */
+    public void execUpdates(@NotNull List<String> sqlCodes) throws QueryFailedException {
+        for (String sqlCode : sqlCodes) {
+            execUpdate(sqlCode);
+        }
+    }
+
+    /**
+     * Executes multiple commands like INSERT INTO, UPDATE or DELETE in the given order within a single transaction.
+     * Either all commands are applied or none of them. The default implementation encloses the commands in
+     * {@code START TRANSACTION} and {@code COMMIT} and executes them using {@link #execUpdates(List)}. Hence it relies
+     * on all of them being sent within the same session. The session lock is held during the whole transaction.
+     * NOTE Statements causing an implicit commit like CREATE or ALTER break the atomicity.
+     *
+     * @param sqlCodes The sql codes to execute.
+     * @return The number of rows affected by each of the sql codes. A count is {@link #UNKNOWN_AFFECTED_ROWS} if the
+     * connection can not determine it. Depending on the connection the count of an {@code UPDATE} either includes
+     * all rows matching its conditions or only the rows whose values actually changed. The default implementation does
+     * not determine any counts.
+     * @throws QueryFailedException Thrown if any of the sql codes is invalid. In this case none of them is applied.
+     * @since 0.16
+     */
+    @NotNull
+    public List<Long> execUpdatesAtomically(@NotNull List<String> sqlCodes) throws QueryFailedException {
+        if (!sqlCodes.isEmpty()) {
+            List<String> transaction = new ArrayList<>(sqlCodes.size() + 2);
+            transaction.add("START TRANSACTION");
+            transaction.addAll(sqlCodes);
+            transaction.add("COMMIT");
+            sessionLock.lock();
+            try {
+                execUpdates(transaction);
+            } catch (QueryFailedException ex) {
+                try {
+                    execUpdate("ROLLBACK");
+                } catch (QueryFailedException rollbackEx) {
+                    ex.addSuppressed(rollbackEx);
+                }
+                throw ex;
+            } finally {
+                sessionLock.unlock();
+            }
+        }
+        return Collections.nCopies(sqlCodes.size(), UNKNOWN_AFFECTED_ROWS);
+    }
+
+    /**
+     * Specifies whether equal values of the same column of a query result returned by {@link #execQuery(String)} share
+     * a single {@link String} instance. This reduces the memory of results containing columns with few distinct values
+     * like status codes. Columns exceeding the given number of distinct values are not deduplicated.
+     *
+     * @param maxDeduplicatedValues The maximum number of distinct values per column. 0 disables deduplication which is
+     *                              the default.
+     * @since 0.16
+     */
+    public void setMaxDeduplicatedValues(int maxDeduplicatedValues) {
+        if (maxDeduplicatedValues < 0) {
+            throw new IllegalArgumentException("The maximum number of distinct values must not be negative");
+        }
+        this.maxDeduplicatedValues = maxDeduplicatedValues;
+    }
+
+    /**
+     * @since 0.16
+     */
+    public int getMaxDeduplicatedValues() {
+        return maxDeduplicatedValues;
+    }
+
+    /**
+     * Specifies the estimated number of bytes the rows of a single query result returned by {@link #execQuery(String)}
+     * may occupy on the heap. Connections which support it spill all further rows to a temporary file and decode them
+     * only when they are accessed. Hence results exceeding the budget should be processed row by row, e.g. by
+     * {@link TableScheme#parseFrom(List)}, instead of being copied.
+     *
+     * @param resultMemoryBudget The number of bytes. {@link Long#MAX_VALUE} disables spilling which is the default.
+     * @see SimpleConnection#execQuery(String)
+     * @since 0.16
+     */
+    public void setResultMemoryBudget(long resultMemoryBudget) {
+        if (resultMemoryBudget < 0) {
+            throw new IllegalArgumentException("The memory budget must not be negative");
+        }
+        this.resultMemoryBudget = resultMemoryBudget;
+    }
+
+    /**
+     * @since 0.16
+     */
+    public long getResultMemoryBudget() {
+        return resultMemoryBudget;
+    }
+
+    /**
+     * Creates a {@link StringDeduplicator} for a single query result according to the current settings.
+     */
+    @NotNull
+    StringDeduplicator createStringDeduplicator() {
+        return new StringDeduplicator(getMaxDeduplicatedValues());
+    }
+
+    /**
+     * Returns the plan the DBMS chooses for executing the given query without executing the query itself.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    public QueryPlan explain(@NotNull String sqlCode) throws QueryFailedException {
+        String explainQuery;
+        try {
+            explainQuery = getDbms()
+                    .getQueryGenerator()
+                    .generateExplainStatement(sqlCode);
+        } catch (GenerationFailedException ex) {
+            throw new QueryFailedException("Could not request the plan of the query", ex);
+        }
+        return QueryPlan.parseFrom(execQuery(explainQuery));
+    }
+
+    /**
+     * Returns the plan the DBMS chooses for executing the query that
+     * {@link QueryGenerator#generateSearchQueryStatement(String, Table, Iterable, Iterable, Iterable, OptionalInt)}
+     * generates for the given arguments.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    public <T, E> QueryPlan explain(@NotNull Table<T, E> table, @NotNull Iterable<Column<E, ?>> columnsToSelect,
+                                    @NotNull Iterable<QueryCondition<?>> conditions,
+                                    @NotNull Iterable<Column<E, ?>> orderBy, @NotNull OptionalInt limit)
+            throws QueryFailedException {
+        String searchQuery;
+        try {
+            searchQuery = getDbms()
+                    .getQueryGenerator()
+                    .generateSearchQueryStatement(getDatabaseName(), table, columnsToSelect, conditions, orderBy,
+                            limit);
+        } catch (GenerationFailedException ex) {
+            throw new QueryFailedException(
+                    String.format("Could not generate the query to explain for table '%s'",
+                            table.getTableScheme().getTableName()), ex);
+        }
+        return explain(searchQuery);
+    }
+
+    /**
+     * Specifies whether queries generated for reading the content of tables are checked for full scans before they
+     * are executed. Checking a query requires an additional {@code EXPLAIN} roundtrip.
+     *
+     * @param policy    The way queries containing full scans are treated.
+     * @param threshold The minimum number of rows a full scan has to be estimated to examine for being treated by the
+     *                  policy.
+     * @see #getTableContent(TableScheme, Collection, List, OptionalInt)
+     * @see #aggregate(Table, List, List, Collection)
+     * @since 0.16
+     */
+    public void setFullScanGuard(@NotNull FullScanPolicy policy, long threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The threshold must not be negative");
+        }
+        this.fullScanPolicy = Objects.requireNonNull(policy);
+        this.fullScanThreshold = threshold;
+    }
+
+    /**
+     * @since 0.16
+     */
+    @NotNull
+    public FullScanPolicy getFullScanPolicy() {
+        return fullScanPolicy;
+    }
+
+    /**
+     * @since 0.16
+     */
+    public long getFullScanThreshold() {
+        return fullScanThreshold;
+    }
+
+    /**
+     * Checks the plan of the given query according to the current full scan policy.
+     *
+     * @throws QueryFailedException Thrown if the query contains a full scan which is rejected by the policy or
+     *                              requesting the plan failed.
+     * @see #setFullScanGuard(FullScanPolicy, long)
+     */
+    private void checkFullScans(@NotNull String sqlCode) throws QueryFailedException {
+        if (fullScanPolicy != FullScanPolicy.IGNORE) {
+            List<QueryPlan.Step> fullScans = explain(sqlCode)
+                    .getFullScans(fullScanThreshold);
+            if (!fullScans.isEmpty()) {
+                String message = String.format("The query contains full scans %s:%n%s", fullScans, sqlCode);
+                if (fullScanPolicy == FullScanPolicy.REJECT) {
+                    throw new QueryFailedException(message);
+                }
+                LOGGER.log(Level.WARNING, message);
+            }
+        }
+    }
+
     /**
      * Checks if the connected database exists.
      *
@@ -100,32 +348,365 @@ public abstract class DBConnection implements AutoCloseable {
         }
     }
 
+    /**
+     * Deletes the given entries from the given table. The entries are identified by their primary keys which are
+     * grouped into as few statements as possible.
+     *
+     * @since 0.16
+     */
+    public <E> void deleteEntries(@NotNull Table<?, E> table, @NotNull Collection<? extends E> entries)
+            throws QueryFailedException {
+        if (!entries.isEmpty()) {
+            List<String> deleteStatements;
+            try {
+                deleteStatements = getDbms()
+                        .getQueryGenerator()
+                        .generateDeleteByPrimaryKeyStatements(getDatabaseName(), table, entries);
+            } catch (GenerationFailedException ex) {
+                throw new QueryFailedException(
+                        String.format("Could not delete entries from table '%s'",
+                                table.getTableScheme().getTableName()), ex);
+            }
+            for (String statement : deleteStatements) {
+                execUpdate(statement);
+            }
+        }
+    }
+
     /**
      * Returns an object representing all current entries of the given table.
      *
      * @param <T>         The type that represents the whole content of the given table.
      * @param tableScheme The table to query all its data from.
      * @return The table to request all data from.
+     * @throws GenerationFailedException Thrown if executing the query for the content fails. This differs from all
+     *                                   other overloads which throw a {@link QueryFailedException} in this case.
      * @since 0.1
      */
     public <T, E> T getTableContent(@NotNull TableScheme<T, E> tableScheme)
             throws GenerationFailedException, QueryFailedException {
+        Table<T, E> table = resolveTable(tableScheme);
+        String searchQuery = generateTableContentQuery(table, Collections.emptyList(), Collections.emptyList(),
+                OptionalInt.empty());
+        List<List<String>> queryResult;
+        try {
+            queryResult = execQuery(searchQuery);
+        } catch (QueryFailedException ex) {
+            // NOTE Kept for compatibility with callers of versions before 0.16
+            throw new GenerationFailedException(
+                    String.format("Could not parse query results to a representation for '%s'",
+                            tableScheme.getTableName()),
+                    ex);
+        }
+        return tableScheme.parseFrom(queryResult);
+    }
+
+    /**
+     * Returns an object representing all current entries of the given table which fulfill all given conditions. The
+     * entries are filtered by the DBMS, i.e. entries not fulfilling the conditions are never transferred.
+     *
+     * @param <T>         The type that represents the whole content of the given table.
+     * @param tableScheme The table to query the data from.
+     * @param conditions  List of conditions which is combined as conjunction.
+     * @since 0.16
+     */
+    public <T, E> T getTableContent(@NotNull TableScheme<T, E> tableScheme,
+                                    @NotNull Collection<QueryCondition<?>> conditions)
+            throws GenerationFailedException, QueryFailedException {
+        return getTableContent(tableScheme, conditions, Collections.emptyList(), OptionalInt.empty());
+    }
+
+    /**
+     * Returns an object representing the current entries of the given table which fulfill all given conditions. The
+     * entries are filtered, sorted and limited by the DBMS.
+     *
+     * @param <T>         The type that represents the whole content of the given table.
+     * @param tableScheme The table to query the data from.
+     * @param conditions  List of conditions which is combined as conjunction.
+     * @param orderBy     The columns to sort the entries by in ascending order. The first column has the highest
+     *                    priority.
+     * @param limit       The maximum number of entries to request. If empty all entries fulfilling the conditions are
+     *                    requested.
+     * @see QueryGenerator#generateSearchQueryStatement(String, Table, Iterable, Iterable, Iterable, OptionalInt)
+     * @since 0.16
+     */
+    public <T, E> T getTableContent(@NotNull TableScheme<T, E> tableScheme,
+                                    @NotNull Collection<QueryCondition<?>> conditions,
+                                    @NotNull List<Column<E, ?>> orderBy, @NotNull OptionalInt limit)
+            throws GenerationFailedException, QueryFailedException {
+        return getTableContent(tableScheme, conditions, orderBy, limit, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns an object representing all current entries of the given table. The entries are parsed in parallel if the
+     * table has at least {@code parallelParsingThreshold} entries.
+     *
+     * @see #getTableContent(TableScheme, Collection, List, OptionalInt, int)
+     * @since 0.16
+     */
+    public <T, E> T getTableContent(@NotNull TableScheme<T, E> tableScheme, int parallelParsingThreshold)
+            throws GenerationFailedException, QueryFailedException {
+        return getTableContent(tableScheme, Collections.emptyList(), Collections.emptyList(), OptionalInt.empty(),
+                parallelParsingThreshold);
+    }
+
+    /**
+     * Same as {@link #getTableContent(TableScheme, Collection, List, OptionalInt)} but parses the entries in parallel
+     * if the query result contains at least {@code parallelParsingThreshold} rows.
+     *
+     * @param parallelParsingThreshold The minimum number of rows the query result needs for being parsed in parallel.
+     *                                 {@link Integer#MAX_VALUE} disables parsing in parallel.
+     * @see TableScheme#parseFrom(List, int)
+     * @since 0.16
+     */
+    public <T, E> T getTableContent(@NotNull TableScheme<T, E> tableScheme,
+                                    @NotNull Collection<QueryCondition<?>> conditions,
+                                    @NotNull List<Column<E, ?>> orderBy, @NotNull OptionalInt limit,
+                                    int parallelParsingThreshold)
+            throws GenerationFailedException, QueryFailedException {
+        if (parallelParsingThreshold < 1) {
+            throw new IllegalArgumentException("The threshold has to be positive");
+        }
+        return tableScheme.parseFrom(
+                requestTableContent(tableScheme, conditions, orderBy, limit), parallelParsingThreshold);
+    }
+
+    /**
+     * Returns all current entries of the given table as a list which creates entries only when they are accessed.
+     *
+     * @param maxCachedEntries The maximum number of created entries to keep.
+     * @see #getTableContentLazily(TableScheme, Collection, List, OptionalInt, long)
+     * @since 0.16
+     */
+    @NotNull
+    public <T, E> List<E> getTableContentLazily(@NotNull TableScheme<T, E> tableScheme, long maxCachedEntries)
+            throws GenerationFailedException, QueryFailedException {
+        return getTableContentLazily(
+                tableScheme, Collections.emptyList(), Collections.emptyList(), OptionalInt.empty(), maxCachedEntries);
+    }
+
+    /**
+     * Returns the current entries of the given table which fulfill all given conditions as a list which creates
+     * entries only when they are accessed. The rows of all entries are transferred immediately but the costs for
+     * parsing them are only paid for accessed entries. This is suitable for showing parts of large tables.
+     *
+     * @param maxCachedEntries The maximum number of created entries to keep. Entries which are accessed again after
+     *                         being evicted are created again.
+     * @see #getTableContent(TableScheme, Collection, List, OptionalInt)
+     * @see TableScheme#parseEntriesLazilyFrom(List, long)
+     * @since 0.16
+     */
+    @NotNull
+    public <T, E> List<E> getTableContentLazily(@NotNull TableScheme<T, E> tableScheme,
+                                                @NotNull Collection<QueryCondition<?>> conditions,
+                                                @NotNull List<Column<E, ?>> orderBy, @NotNull OptionalInt limit,
+                                                long maxCachedEntries)
+            throws GenerationFailedException, QueryFailedException {
+        return tableScheme.parseEntriesLazilyFrom(
+                requestTableContent(tableScheme, conditions, orderBy, limit), maxCachedEntries);
+    }
+
+    @NotNull
+    private <T, E> Table<T, E> resolveTable(@NotNull TableScheme<T, E> tableScheme) throws QueryFailedException {
         Set<SimpleColumnPattern<?, E>> missingColumns = getMissingColumns(tableScheme);
         if (missingColumns.isEmpty()) {
-            T tableContent;
-            String searchQuery = getDbms()
+            return getTable(tableScheme).orElseThrow();
+        } else {
+            throw new IllegalStateException("The table scheme misses columns: " + missingColumns);
+        }
+    }
+
+    @NotNull
+    private <T, E> List<List<String>> requestTableContent(@NotNull TableScheme<T, E> tableScheme,
+                                                          @NotNull Collection<QueryCondition<?>> conditions,
+                                                          @NotNull List<Column<E, ?>> orderBy,
+                                                          @NotNull OptionalInt limit)
+            throws GenerationFailedException, QueryFailedException {
+        return requestTableContent(resolveTable(tableScheme), conditions, orderBy, limit);
+    }
+
+    /**
+     * Same as {@link #requestTableContent(TableScheme, Collection, List, OptionalInt)} but skips resolving the table
+     * and checking its columns.
+     */
+    @NotNull
+    <T, E> List<List<String>> requestTableContent(@NotNull Table<T, E> table,
+                                                  @NotNull Collection<QueryCondition<?>> conditions,
+                                                  @NotNull List<Column<E, ?>> orderBy, @NotNull OptionalInt limit)
+            throws GenerationFailedException, QueryFailedException {
+        return execQuery(generateTableContentQuery(table, conditions, orderBy, limit));
+    }
+
+    @NotNull
+    private <T, E> String generateTableContentQuery(@NotNull Table<T, E> table,
+                                                    @NotNull Collection<QueryCondition<?>> conditions,
+                                                    @NotNull List<Column<E, ?>> orderBy, @NotNull OptionalInt limit)
+            throws GenerationFailedException, QueryFailedException {
+        // NOTE Columns which are not mapped by the scheme would be discarded on parsing anyway
+        String searchQuery = getDbms()
+                .getQueryGenerator()
+                .generateSearchQueryStatement(getDatabaseName(), table,
+                        table.getColumnsToSelect(), conditions, orderBy, limit);
+        checkFullScans(searchQuery);
+        return searchQuery;
+    }
+
+    /**
+     * Lets the DBMS compute the given aggregations over all entries of the given table which fulfill the given
+     * conditions, i.e. only the aggregated values are transferred instead of the entries.
+     *
+     * @param aggregations The aggregations to compute.
+     * @param groupBy      The columns to group the entries by. If empty there is exactly a single result.
+     * @param conditions   List of conditions which is combined as conjunction.
+     * @return A result for each group.
+     * @since 0.16
+     */
+    @NotNull
+    public <E> List<AggregationResult<E>> aggregate(
+            @NotNull Table<?, E> table, @NotNull List<? extends Aggregation<E, ?>> aggregations,
+            @NotNull List<? extends Column<E, ?>> groupBy, @NotNull Collection<QueryCondition<?>> conditions)
+            throws QueryFailedException {
+        String aggregateQuery;
+        try {
+            aggregateQuery = getDbms()
                     .getQueryGenerator()
-                    .generateSearchQueryStatement(getDatabaseName(), getTable(tableScheme).orElseThrow(),
-                            Collections.EMPTY_LIST, Collections.emptyList());
+                    .generateAggregateQueryStatement(getDatabaseName(), table, aggregations, groupBy, conditions);
+        } catch (GenerationFailedException ex) {
+            throw new QueryFailedException(
+                    String.format("Could not aggregate entries of table '%s'", table.getTableScheme().getTableName()),
+                    ex);
+        }
+        checkFullScans(aggregateQuery);
+        List<List<String>> result = execQuery(aggregateQuery);
+        List<AggregationResult<E>> aggregationResults = new ArrayList<>(Math.max(0, result.size() - 1));
+        for (List<String> row : result.subList(1, result.size())) { // Skip headings
             try {
-                tableContent = tableScheme.parseFrom(execQuery(searchQuery));
-            } catch (QueryFailedException ex) {
-                throw new GenerationFailedException(
-                        String.format("Could not parse query results to a representation for '%s'",
-                                tableScheme.getTableName()),
-                        ex);
+                aggregationResults.add(AggregationResult.parseFrom(aggregations, groupBy, row));
+            } catch (ParseException ex) {
+                throw new QueryFailedException("Could not parse the aggregated values", ex);
             }
-            return tableContent;
+        }
+        return aggregationResults;
+    }
+
+    /**
+     * Lets the DBMS compute the given aggregation over all entries of the given table which fulfill the given
+     * conditions.
+     *
+     * @return The aggregated value. {@link Optional#empty()} if the DBMS returns {@code NULL}, e.g. the sum of an empty
+     * set of entries.
+     * @see #aggregate(Table, List, List, Collection)
+     * @since 0.16
+     */
+    @NotNull
+    public <E, R> Optional<R> aggregate(@NotNull Table<?, E> table, @NotNull Aggregation<E, R> aggregation,
+                                        @NotNull Collection<QueryCondition<?>> conditions)
+            throws QueryFailedException {
+        List<AggregationResult<E>> results = aggregate(table, List.of(aggregation), List.of(), conditions);
+        if (results.size() != 1) {
+            throw new QueryFailedException(
+                    String.format("Expected exactly one aggregated value but got %d", results.size()));
+        }
+        return Optional.ofNullable(results.get(0).get(aggregation));
+    }
+
+    /**
+     * Returns a {@link TablePager} which requests the entries of the given table lazily page by page along its primary
+     * key.
+     *
+     * @param pageSize The initial maximum number of entries per page.
+     * @see TablePager#setPageSize(int)
+     * @since 0.16
+     */
+    @NotNull
+    public <E> TablePager<E> getTableContentPaged(@NotNull TableScheme<?, E> tableScheme, int pageSize)
+            throws QueryFailedException {
+        Set<SimpleColumnPattern<?, E>> missingColumns = getMissingColumns(tableScheme);
+        if (missingColumns.isEmpty()) {
+            return new TablePager<>(this, getTable(tableScheme).orElseThrow(), pageSize);
+        } else {
+            throw new IllegalStateException("The table scheme misses columns: " + missingColumns);
+        }
+    }
+
+    /**
+     * Returns a {@link TableContentPoller} which requests the content of the given table only if it changed.
+     *
+     * @see #getTableContentPoller(TableScheme, Collection)
+     * @since 0.16
+     */
+    @NotNull
+    public <T, E> TableContentPoller<T, E> getTableContentPoller(@NotNull TableScheme<T, E> tableScheme)
+            throws QueryFailedException {
+        return getTableContentPoller(tableScheme, Collections.emptyList());
+    }
+
+    /**
+     * Returns a {@link TableContentPoller} which requests the entries of the given table which fulfill all given
+     * conditions only if the table changed since the last poll.
+     *
+     * @param conditions List of conditions which is combined as conjunction.
+     * @see #getTableContentPoller(TableScheme, Collection, FingerprintStrategy)
+     * @see SupportedDBMS#getFingerprintStrategy()
+     * @since 0.16
+     */
+    @NotNull
+    public <T, E> TableContentPoller<T, E> getTableContentPoller(@NotNull TableScheme<T, E> tableScheme,
+                                                                 @NotNull Collection<QueryCondition<?>> conditions)
+            throws QueryFailedException {
+        return getTableContentPoller(tableScheme, conditions, getDbms().getFingerprintStrategy());
+    }
+
+    /**
+     * Returns a {@link TableContentPoller} which requests the entries of the given table which fulfill all given
+     * conditions only if the fingerprint of the table changed since the last poll.
+     *
+     * @param conditions          List of conditions which is combined as conjunction.
+     * @param fingerprintStrategy The strategy for detecting changes of the table. NOTE Strategies which are cheaper
+     *                            than the one of the DBMS may miss some modifications.
+     * @see Table#getFingerprint(FingerprintStrategy)
+     * @since 0.16
+     */
+    @NotNull
+    public <T, E> TableContentPoller<T, E> getTableContentPoller(@NotNull TableScheme<T, E> tableScheme,
+                                                                 @NotNull Collection<QueryCondition<?>> conditions,
+                                                                 @NotNull FingerprintStrategy fingerprintStrategy)
+            throws QueryFailedException {
+        Set<SimpleColumnPattern<?, E>> missingColumns = getMissingColumns(tableScheme);
+        if (missingColumns.isEmpty()) {
+            return new TableContentPoller<>(this, getTable(tableScheme).orElseThrow(), conditions,
+                    fingerprintStrategy);
+        } else {
+            throw new IllegalStateException("The table scheme misses columns: " + missingColumns);
+        }
+    }
+
+    /**
+     * Returns a {@link TableRefresher} which keeps a list of all entries of the given table up to date.
+     *
+     * @see #getTableRefresher(TableScheme, Collection)
+     * @since 0.16
+     */
+    @NotNull
+    public <E> TableRefresher<E> getTableRefresher(@NotNull TableScheme<?, E> tableScheme)
+            throws QueryFailedException {
+        return getTableRefresher(tableScheme, Collections.emptyList());
+    }
+
+    /**
+     * Returns a {@link TableRefresher} which keeps a list of the entries of the given table which fulfill all given
+     * conditions up to date. Each refresh only transfers rows which changed since the previous refresh.
+     *
+     * @param conditions List of conditions which is combined as conjunction.
+     * @since 0.16
+     */
+    @NotNull
+    public <E> TableRefresher<E> getTableRefresher(@NotNull TableScheme<?, E> tableScheme,
+                                                   @NotNull Collection<QueryCondition<?>> conditions)
+            throws QueryFailedException {
+        Set<SimpleColumnPattern<?, E>> missingColumns = getMissingColumns(tableScheme);
+        if (missingColumns.isEmpty()) {
+            return new TableRefresher<>(this, getTable(tableScheme).orElseThrow(), conditions);
         } else {
             throw new IllegalStateException("The table scheme misses columns: " + missingColumns);
         }
@@ -144,6 +725,29 @@ public abstract class DBConnection implements AutoCloseable {
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * Returns all indices declared by the given scheme which do not exist in the corresponding table. An index is
+     * considered as existing if the table has any index (including the primary key) over the same columns in the same
+     * order which is unique if the declared index is unique. The names of the indices are not compared.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    public <T, E> Set<IndexScheme<E>> getMissingIndices(@NotNull TableScheme<T, E> scheme)
+            throws QueryFailedException {
+        Table<T, E> table = getTable(scheme)
+                .orElseThrow(() -> new QueryFailedException(
+                        String.format(
+                                "Could not return existing indices since there is no table corresponding to the given "
+                                        + "scheme for '%s'", scheme.getTableName())));
+        Set<Index> existingIndices = table.getIndices();
+        return scheme.getIndices()
+                .stream()
+                .filter(indexScheme -> existingIndices.stream()
+                        .noneMatch(index -> index.covers(indexScheme)))
+                .collect(Collectors.toSet());
+    }
+
     /**
      * @since 0.5
      */
@@ -223,6 +827,12 @@ public abstract class DBConnection implements AutoCloseable {
          * NOTE Should be a static local variable in {@link #getColumns()}
          */
         private final Set<Column<E, ?>> cachedColumns = new HashSet<>();
+        /**
+         * The names of the columns which are skipped by {@link #getColumns()} due to their unsupported SQL type but are
+         * associated with a pattern of the scheme.
+         */
+        private final Set<String> cachedUnsupportedMappedColumnNames = new HashSet<>();
+        private Set<Index> cachedIndices = null;
 
         // NOTE Only DBConnection should be allowed to create Table objects
         private Table(@NotNull TableScheme<T, E> scheme) {
@@ -255,8 +865,7 @@ public abstract class DBConnection implements AutoCloseable {
                     String query = queryGenerator.generateQueryColumnNamesAndTypesStatement(
                             getDatabaseName(), this);
                     List<List<String>> result = execQuery(query);
-                    result.remove(0); // Skip headings
-                    for (List<String> row : result) {
+                    for (List<String> row : result.subList(1, result.size())) { // Skip headings
                         String columnName = row.get(0);
                         String columnTypeName = row.get(1);
                         Optional<Class<C>> columnType = queryGenerator.getType(columnTypeName);
@@ -270,6 +879,13 @@ public abstract class DBConnection implements AutoCloseable {
                             LOGGER.log(Level.INFO, String.format(
                                     "Skip column '%s' of table '%s' since it has an unsupported SQL type ('%s')",
                                     columnName, getTableScheme().getTableName(), columnTypeName));
+                            boolean isMapped = Stream.concat(
+                                            getTableScheme().getRequiredColumns().stream(),
+                                            getTableScheme().getOptionalColumns().stream())
+                                    .anyMatch(cp -> cp.matches(columnName));
+                            if (isMapped) {
+                                cachedUnsupportedMappedColumnNames.add(columnName);
+                            }
                         }
                     }
                 } catch (GenerationFailedException ex) {
@@ -281,6 +897,187 @@ public abstract class DBConnection implements AutoCloseable {
             return Collections.unmodifiableSet(cachedColumns);
         }
 
+        /**
+         * Checks whether any column which is associated with a pattern of the scheme is skipped by
+         * {@link #getColumns()} due to its unsupported SQL type. Values of such columns can still be parsed by their
+         * patterns but they are not represented by any {@link Column}.
+         *
+         * @since 0.16
+         */
+        boolean hasUnsupportedMappedColumns() throws QueryFailedException {
+            getColumns(); // Ensure the columns are requested
+            return !cachedUnsupportedMappedColumnNames.isEmpty();
+        }
+
+        /**
+         * Returns the columns to request for reading entries of this table. These are all columns returned by
+         * {@link #getMappedColumns()} unless {@link #hasUnsupportedMappedColumns()}. In that case the result is empty
+         * which selects all columns since otherwise the values of columns with unsupported SQL types were lost.
+         *
+         * @since 0.16
+         */
+        @NotNull
+        @Unmodifiable
+        List<Column<E, ?>> getColumnsToSelect() throws QueryFailedException {
+            return hasUnsupportedMappedColumns() ? List.of() : getMappedColumns();
+        }
+
+        /**
+         * Returns all indices of this table including the one of the primary key.
+         *
+         * @since 0.16
+         */
+        @NotNull
+        @Unmodifiable
+        public Set<Index> getIndices() throws QueryFailedException {
+            if (cachedIndices == null) {
+                String query;
+                try {
+                    query = getDbms()
+                            .getQueryGenerator()
+                            .generateQueryIndicesStatement(getDatabaseName(), this);
+                } catch (GenerationFailedException ex) {
+                    throw new QueryFailedException(
+                            String.format("Could not request existing indices of table '%s'",
+                                    getTableScheme().getTableName()), ex);
+                }
+                // NOTE The rows of each index are ordered by the position of the column within the index
+                Map<String, List<String>> indexColumns = new LinkedHashMap<>();
+                Map<String, Boolean> indexUniqueness = new HashMap<>();
+                for (List<String> row : execQuery(query).stream().skip(1).toList()) { // Skip headings
+                    String indexName = row.get(0);
+                    indexColumns.computeIfAbsent(indexName, name -> new ArrayList<>())
+                            .add(row.get(1));
+                    indexUniqueness.put(indexName, "0".equals(row.get(2)));
+                }
+                cachedIndices = indexColumns.entrySet()
+                        .stream()
+                        .map(entry -> new Index(
+                                entry.getKey(), entry.getValue(), indexUniqueness.get(entry.getKey())))
+                        .collect(Collectors.toUnmodifiableSet());
+            }
+            return cachedIndices;
+        }
+
+        /**
+         * Returns a cheap fingerprint of the current content of this table using the strategy of the DBMS which detects
+         * any modification.
+         *
+         * @see #getFingerprint(FingerprintStrategy)
+         * @see SupportedDBMS#getFingerprintStrategy()
+         * @since 0.16
+         */
+        @NotNull
+        public Optional<String> getFingerprint() throws QueryFailedException {
+            return getFingerprint(getDbms().getFingerprintStrategy());
+        }
+
+        /**
+         * Returns a fingerprint of the current content of this table which is computed by the DBMS, i.e. without
+         * transferring the content. Two equal fingerprints indicate that the content did not change in between as far
+         * as the given strategy is able to detect modifications.
+         *
+         * @return The fingerprint. {@link Optional#empty()} if the content could still change without changing the
+         * fingerprint, e.g. since the time of the last modification is the current time and its precision is too low
+         * for distinguishing subsequent modifications.
+         * @since 0.16
+         */
+        @NotNull
+        public Optional<String> getFingerprint(@NotNull FingerprintStrategy strategy) throws QueryFailedException {
+            try {
+                return switch (strategy) {
+                    case UPDATE_TIME -> getUpdateTimeFingerprint();
+                    case CHECKSUM -> getChecksumFingerprint();
+                    case ROW_COUNT_AND_MAX_KEY -> getRowCountAndMaxKeyFingerprint();
+                };
+            } catch (GenerationFailedException ex) {
+                throw new QueryFailedException(
+                        String.format("Could not request the fingerprint of table '%s'",
+                                getTableScheme().getTableName()), ex);
+            }
+        }
+
+        @NotNull
+        private Optional<String> getUpdateTimeFingerprint() throws GenerationFailedException, QueryFailedException {
+            List<List<String>> updateTimeResult = execQuery(getDbms().getQueryGenerator()
+                    .generateQueryTableUpdateTimeStatement(getDatabaseName(), this));
+            if (updateTimeResult.size() > 1) { // Skip headings
+                String updateTime = updateTimeResult.get(1).get(0);
+                String currentTime = updateTimeResult.get(1).get(1);
+                if (updateTime != null) {
+                    // NOTE Both times have the same format so they can be compared lexicographically
+                    boolean isStable = currentTime != null && updateTime.compareTo(currentTime) < 0;
+                    return Optional.ofNullable(isStable ? "updated:" + updateTime : null);
+                }
+            }
+            // NOTE The DBMS does not track the time of the last modification of this table
+            return getChecksumFingerprint();
+        }
+
+        @NotNull
+        private Optional<String> getChecksumFingerprint() throws GenerationFailedException, QueryFailedException {
+            List<List<String>> checksumResult = execQuery(getDbms().getQueryGenerator()
+                    .generateChecksumTableStatement(getDatabaseName(), this));
+            return checksumResult.stream()
+                    .skip(1) // Skip headings
+                    .map(row -> row.get(1))
+                    .filter(Objects::nonNull)
+                    .findAny()
+                    .map(checksum -> "checksum:" + checksum);
+        }
+
+        @NotNull
+        private Optional<String> getRowCountAndMaxKeyFingerprint()
+                throws GenerationFailedException, QueryFailedException {
+            List<Aggregation<E, ?>> aggregations = new ArrayList<>();
+            aggregations.add(Aggregation.count());
+            for (Column<E, ?> keyColumn : getPrimaryKeyColumns()) {
+                aggregations.add(Aggregation.max(keyColumn));
+            }
+            // NOTE The full scan guard is bypassed since counting rows is reported as full index scan
+            List<List<String>> aggregateResult = execQuery(getDbms().getQueryGenerator()
+                    .generateAggregateQueryStatement(getDatabaseName(), this, aggregations, List.of(), List.of()));
+            return aggregateResult.stream()
+                    .skip(1) // Skip headings
+                    .findAny()
+                    .map(row -> "rows:" + row.get(0) + ";max:" + String.join(",", row.subList(1, row.size())));
+        }
+
+        /**
+         * Returns all columns which are associated with a pattern of the scheme ordered by their index, i.e. all
+         * columns whose values can be parsed into entries of the scheme.
+         *
+         * @since 0.16
+         */
+        @NotNull
+        @Unmodifiable
+        public List<Column<E, ?>> getMappedColumns() throws QueryFailedException {
+            return getColumns()
+                    .stream()
+                    .filter(column -> column.pattern().isPresent())
+                    .sorted(Comparator.comparingInt(Column::index))
+                    .<Column<E, ?>>map(column -> column)
+                    .toList();
+        }
+
+        /**
+         * Returns all columns which are associated with a primary key column of the scheme ordered by their index.
+         *
+         * @since 0.16
+         */
+        @NotNull
+        @Unmodifiable
+        public List<Column<E, ?>> getPrimaryKeyColumns() throws QueryFailedException {
+            return getColumns()
+                    .stream()
+                    .filter(column -> column.pattern()
+                            .filter(cp -> cp instanceof SimpleColumnPattern<?, E> scp && scp.isPrimaryKey())
+                            .isPresent())
+                    .sorted(Comparator.comparingInt(Column::index))
+                    .<Column<E, ?>>map(column -> column)
+                    .toList();
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) {
@@ -358,4 +1155,40 @@ public abstract class DBConnection implements AutoCloseable {
             return Objects.hash(name());
         }
     }
+
+    /**
+     * Represents an index that exists in a table which is accessible by this connection. In contrast
+     * {@link IndexScheme} only represents an index of a {@link TableScheme} of a table which might have been created.
+     *
+     * @param name        The name of the index.
+     * @param columnNames The names of the indexed columns ordered by their position within the index.
+     * @param unique      {@code true} only if the index does not allow duplicates.
+     * @since 0.16
+     */
+    public record Index(
+            String name,
+            List<String> columnNames,
+            boolean unique) {
+
+        public Index {
+            columnNames = List.copyOf(columnNames);
+        }
+
+        /**
+         * Checks whether this index serves the given declared index, i.e. whether it indexes the same columns in the
+         * same order and ensures uniqueness if the declared index requires it.
+         */
+        public boolean covers(@NotNull IndexScheme<?> indexScheme) {
+            List<? extends SimpleColumnPattern<?, ?>> declaredColumns = indexScheme.getColumns();
+            if (declaredColumns.size() != columnNames().size() || (indexScheme.isUnique() && !unique())) {
+                return false;
+            }
+            for (int i = 0; i < declaredColumns.size(); i++) {
+                if (!declaredColumns.get(i).matches(columnNames().get(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
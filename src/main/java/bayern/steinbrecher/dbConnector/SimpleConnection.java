@@ -1,16 +1,22 @@
 package bayern.steinbrecher.dbConnector;
 
 import bayern.steinbrecher.dbConnector.credentials.SimpleCredentials;
+import bayern.steinbrecher.dbConnector.query.GenerationFailedException;
 import bayern.steinbrecher.dbConnector.query.QueryFailedException;
 import bayern.steinbrecher.dbConnector.query.SupportedDBMS;
+import bayern.steinbrecher.dbConnector.scheme.TableScheme;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLSyntaxErrorException;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -29,7 +35,12 @@ public final class SimpleConnection extends DBConnection {
             SupportedDBMS.MARIADB, "jdbc:mariadb://",
             SupportedDBMS.MY_SQL, "jdbc:mysql://"
     );
+    /**
+     * The number of rows the driver fetches at once when streaming results.
+     */
+    private static final int STREAMING_FETCH_SIZE = 1000;
     private Connection connection;
+    private final boolean localInfileAllowed;
 
     /**
      * @since 0.10
@@ -37,7 +48,22 @@ public final class SimpleConnection extends DBConnection {
     public SimpleConnection(@NotNull SupportedDBMS dbms, @NotNull String databaseHost, int databasePort,
                             @NotNull String databaseName, @NotNull SimpleCredentials credentials, boolean useSSL)
             throws AuthException, DatabaseNotFoundException {
+        this(dbms, databaseHost, databasePort, databaseName, credentials, useSSL, false);
+    }
+
+    /**
+     * @param allowLocalInfile Whether the connection allows {@code LOAD DATA LOCAL INFILE} as required by
+     *                         {@link #bulkLoad(TableScheme, Iterable)}. NOTE Allowing it lets the server request
+     *                         arbitrary local files the client is able to read so it should only be enabled for trusted
+     *                         servers.
+     * @since 0.16
+     */
+    public SimpleConnection(@NotNull SupportedDBMS dbms, @NotNull String databaseHost, int databasePort,
+                            @NotNull String databaseName, @NotNull SimpleCredentials credentials, boolean useSSL,
+                            boolean allowLocalInfile)
+            throws AuthException, DatabaseNotFoundException {
         super(databaseName, dbms);
+        this.localInfileAllowed = allowLocalInfile;
         String databaseHostPrefix = Objects.requireNonNull(databaseHost);
         if (databaseHostPrefix.endsWith("/")) {
             databaseHostPrefix = databaseHostPrefix.substring(0, databaseHostPrefix.length() - 1);
@@ -49,7 +75,8 @@ public final class SimpleConnection extends DBConnection {
                             + "verifyServerCertificate=false"
                             + (useSSL ? "&useSSL=true" : "")
                             + "&zeroDateTimeBehavior=CONVERT_TO_NULL"
-                            + "&serverTimezone=UTC",
+                            + "&serverTimezone=UTC"
+                            + (allowLocalInfile ? "&allowLocalInfile=true" : ""),
                     credentials.getDbUsername(), credentials.getDbPassword());
             //        } catch (CommunicationsException ex) { // FIXME Reintroduce exception case
             //            throw new UnknownHostException(ex.getMessage()); //NOPMD - UnknownHostException does not
@@ -75,31 +102,69 @@ public final class SimpleConnection extends DBConnection {
     }
 
     /**
+     * Executes a query and returns the result. If a result memory budget is set the rows are streamed from the server
+     * and rows exceeding the budget are spilled to a temporary file.
+     *
+     * @see #setResultMemoryBudget(long)
      * @since 0.1
      */
     @NotNull
     @Override
     public List<List<String>> execQuery(@NotNull String sqlCode) throws QueryFailedException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlCode);
-                ResultSet resultset = preparedStatement.executeQuery()) {
-            List<List<String>> resultTable = new ArrayList<>();
-            List<String> labels = new ArrayList<>();
-            for (int i = 1; i <= resultset.getMetaData().getColumnCount(); i++) {
-                labels.add(resultset.getMetaData().getColumnLabel(i));
-            }
-            resultTable.add(labels);
+        boolean spillingEnabled = getResultMemoryBudget() < Long.MAX_VALUE;
+        getSessionLock().lock();
+        try {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sqlCode)) {
+                if (spillingEnabled) {
+                    // NOTE Otherwise the driver reads the whole result into memory before returning the first row
+                    preparedStatement.setFetchSize(STREAMING_FETCH_SIZE);
+                }
+                try (ResultSet resultset = preparedStatement.executeQuery()) {
+                    List<List<String>> resultTable;
+                    if (spillingEnabled) {
+                        resultTable = new SpillingResultList(getResultMemoryBudget());
+                    } else {
+                        resultTable = new ArrayList<>();
+                    }
+                    List<String> labels = new ArrayList<>();
+                    for (int i = 1; i <= resultset.getMetaData().getColumnCount(); i++) {
+                        labels.add(resultset.getMetaData().getColumnLabel(i));
+                    }
+                    boolean completed = false;
+                    try {
+                        resultTable.add(labels);
+
+                        StringDeduplicator deduplicator = createStringDeduplicator();
+                        while (resultset.next()) {
+                            List<String> columns = new ArrayList<>();
+                            for (int i = 0; i < labels.size(); i++) {
+                                columns.add(deduplicator.deduplicate(i, resultset.getString(labels.get(i))));
+                            }
+                            resultTable.add(columns);
+                        }
 
-            while (resultset.next()) {
-                List<String> columns = new ArrayList<>();
-                for (String l : labels) {
-                    columns.add(resultset.getString(l));
+                        if (resultTable instanceof SpillingResultList spillingResult) {
+                            spillingResult.finish();
+                            if (spillingResult.isSpilled()) {
+                                LOGGER.log(Level.FINE, "The result exceeded the memory budget and was spilled to disk");
+                            }
+                        }
+                        completed = true;
+                        return resultTable;
+                    } finally {
+                        if (!completed && resultTable instanceof SpillingResultList spillingResult) {
+                            // NOTE Otherwise the temporary file and its file descriptor leak
+                            spillingResult.discard();
+                        }
+                    }
                 }
-                resultTable.add(columns);
+            } catch (SQLException ex) {
+                throw new QueryFailedException(ex);
+            } catch (IOException | UncheckedIOException ex) {
+                throw new QueryFailedException("Could not spill the query result to disk", ex);
             }
-
-            return resultTable;
-        } catch (SQLException ex) {
-            throw new QueryFailedException(ex);
+        } finally {
+            getSessionLock().unlock();
         }
     }
 
@@ -108,10 +173,131 @@ public final class SimpleConnection extends DBConnection {
      */
     @Override
     public void execUpdate(@NotNull String sqlCode) throws QueryFailedException {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sqlCode)) {
-            preparedStatement.executeUpdate();
-        } catch (SQLException ex) {
-            throw new QueryFailedException(ex);
+        getSessionLock().lock();
+        try {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sqlCode)) {
+                preparedStatement.executeUpdate();
+            } catch (SQLException ex) {
+                throw new QueryFailedException(ex);
+            }
+        } finally {
+            getSessionLock().unlock();
+        }
+    }
+
+    /**
+     * Sends all given commands as a single JDBC batch.
+     *
+     * @since 0.16
+     */
+    @Override
+    public void execUpdates(@NotNull List<String> sqlCodes) throws QueryFailedException {
+        if (!sqlCodes.isEmpty()) {
+            getSessionLock().lock();
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    for (String sqlCode : sqlCodes) {
+                        statement.addBatch(sqlCode);
+                    }
+                    statement.executeBatch();
+                } catch (SQLException ex) {
+                    throw new QueryFailedException(ex);
+                }
+            } finally {
+                getSessionLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Sends all given commands as a single JDBC batch within a transaction. The affected rows of an {@code UPDATE} are
+     * the rows matching its conditions even if their values did not change. Since all threads share the same JDBC
+     * connection the session lock is held during the whole transaction.
+     *
+     * @since 0.16
+     */
+    @Override
+    @NotNull
+    public List<Long> execUpdatesAtomically(@NotNull List<String> sqlCodes) throws QueryFailedException {
+        List<Long> affectedRows = new ArrayList<>(sqlCodes.size());
+        if (!sqlCodes.isEmpty()) {
+            getSessionLock().lock();
+            try {
+                try {
+                    boolean wasAutoCommit = connection.getAutoCommit();
+                    connection.setAutoCommit(false);
+                    try (Statement statement = connection.createStatement()) {
+                        for (String sqlCode : sqlCodes) {
+                            statement.addBatch(sqlCode);
+                        }
+                        for (int count : statement.executeBatch()) {
+                            affectedRows.add((count < 0) ? UNKNOWN_AFFECTED_ROWS : count);
+                        }
+                        connection.commit();
+                    } catch (SQLException ex) {
+                        connection.rollback();
+                        throw ex;
+                    } finally {
+                        connection.setAutoCommit(wasAutoCommit);
+                    }
+                } catch (SQLException ex) {
+                    throw new QueryFailedException(ex);
+                }
+            } finally {
+                getSessionLock().unlock();
+            }
+        }
+        return affectedRows;
+    }
+
+    /**
+     * Inserts the given entries into the table corresponding to the given scheme using {@code LOAD DATA LOCAL INFILE}.
+     * In contrast to inserting entries by {@code INSERT} statements the server reads all entries as a single stream
+     * which is significantly faster for large numbers of entries. The entries are serialized lazily while the server
+     * reads them and no temporary file is written. Only the values of columns which are associated with a pattern are
+     * loaded.
+     * NOTE This requires the MariaDB driver, the server allowing {@code local_infile} and this connection being
+     * created with {@code allowLocalInfile} enabled.
+     *
+     * @return The number of loaded rows.
+     * @throws IllegalStateException Thrown only if this connection does not allow {@code LOAD DATA LOCAL INFILE}.
+     * @see #SimpleConnection(SupportedDBMS, String, int, String, SimpleCredentials, boolean, boolean)
+     * @since 0.16
+     */
+    public <T, E> long bulkLoad(@NotNull TableScheme<T, E> scheme, @NotNull Iterable<? extends E> entries)
+            throws QueryFailedException {
+        if (!localInfileAllowed) {
+            throw new IllegalStateException(
+                    "Bulk loads require a connection which is created with allowLocalInfile enabled");
+        }
+        Table<T, E> table = getTable(scheme)
+                .orElseThrow(() -> new QueryFailedException(
+                        String.format("Could not load entries since there is no table corresponding to the given "
+                                + "scheme for '%s'", scheme.getTableName())));
+        List<Column<E, ?>> columns = table.getMappedColumns();
+        String loadDataQuery;
+        try {
+            loadDataQuery = getDbms()
+                    .getQueryGenerator()
+                    .generateLoadDataStatement(getDatabaseName(), table, columns, scheme.getTableName() + ".tsv");
+        } catch (GenerationFailedException ex) {
+            throw new QueryFailedException(
+                    String.format("Could not generate statement for loading entries into table '%s'",
+                            scheme.getTableName()), ex);
+        }
+
+        getSessionLock().lock();
+        try {
+            try (Statement statement = connection.createStatement();
+                    InputStream entryStream = new BulkLoadInputStream<>(entries.iterator(), columns)) {
+                statement.unwrap(org.mariadb.jdbc.Statement.class)
+                        .setLocalInfileInputStream(entryStream);
+                return statement.executeLargeUpdate(loadDataQuery);
+            } catch (SQLException | IOException ex) {
+                throw new QueryFailedException(ex);
+            }
+        } finally {
+            getSessionLock().unlock();
         }
     }
 
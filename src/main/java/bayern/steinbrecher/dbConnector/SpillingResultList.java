@@ -0,0 +1,261 @@
+package bayern.steinbrecher.dbConnector;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Holds the rows of a query result in memory as long as their estimated size stays within a given budget. All rows
+ * added after exceeding the budget are spilled to a temporary file which is memory mapped once all rows are added.
+ * Spilled rows are decoded only when they are accessed, i.e. the heap only holds the rows currently processed.
+ * <p>
+ * A spilled row is stored as the number of its cells followed by each cell as the length of its UTF-8 representation
+ * and the bytes themselves. The length of {@code null} cells is -1. The temporary file is removed as soon as it is
+ * mapped. Its content stays accessible until this list is garbage collected.
+ * </p>
+ * NOTE Rows can only be added until {@link #finish()} is called and can only be accessed afterwards.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+final class SpillingResultList extends AbstractList<List<String>> implements RandomAccess {
+    private static final Logger LOGGER = Logger.getLogger(SpillingResultList.class.getName());
+    /**
+     * The maximum size of a single memory mapped segment of the temporary file. No row spans multiple segments.
+     */
+    private static final long SEGMENT_SIZE = 1L << 30;
+    /**
+     * A rough estimation of the heap a row and each of its cells need additionally to the characters of the cells.
+     */
+    private static final long ESTIMATED_ROW_OVERHEAD = 40;
+    private static final long ESTIMATED_CELL_OVERHEAD = 48;
+    private final long memoryBudget;
+    private final List<List<String>> heapRows = new ArrayList<>();
+    private final List<Long> segmentStarts = new ArrayList<>();
+    private long estimatedHeapSize = 0;
+    private FileChannel spillChannel = null;
+    private DataOutputStream spillOutput = null;
+    private long spillPosition = 0;
+    private long currentSegmentStart = 0;
+    private long[] spilledRowOffsets = new long[1024];
+    private int numSpilledRows = 0;
+    private ByteBuffer[] segments = null;
+    private boolean finished = false;
+
+    /**
+     * @param memoryBudget The estimated number of bytes the rows kept on the heap may occupy.
+     */
+    SpillingResultList(long memoryBudget) {
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("The memory budget must not be negative");
+        }
+        this.memoryBudget = memoryBudget;
+    }
+
+    private static long estimateHeapSize(@NotNull List<String> row) {
+        long size = ESTIMATED_ROW_OVERHEAD;
+        for (String cell : row) {
+            size += ESTIMATED_CELL_OVERHEAD + (cell == null ? 0 : 2L * cell.length());
+        }
+        return size;
+    }
+
+    private void startSpilling() throws IOException {
+        Path spillFile = Files.createTempFile("dbConnector-result-", ".bin");
+        spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.DELETE_ON_CLOSE);
+        spillOutput = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(spillChannel)));
+        segmentStarts.add(0L);
+    }
+
+    private void spill(@NotNull List<String> row) throws IOException {
+        if (spillChannel == null) {
+            startSpilling();
+        }
+        byte[][] encodedCells = new byte[row.size()][];
+        long rowSize = Integer.BYTES;
+        for (int i = 0; i < row.size(); i++) {
+            String cell = row.get(i);
+            if (cell != null) {
+                encodedCells[i] = cell.getBytes(StandardCharsets.UTF_8);
+                rowSize += encodedCells[i].length;
+            }
+            rowSize += Integer.BYTES;
+        }
+        if (rowSize > SEGMENT_SIZE) {
+            throw new IOException("The row is too large for being spilled");
+        }
+        if (spillPosition - currentSegmentStart + rowSize > SEGMENT_SIZE) {
+            currentSegmentStart = spillPosition;
+            segmentStarts.add(currentSegmentStart);
+        }
+
+        if (numSpilledRows >= spilledRowOffsets.length) {
+            spilledRowOffsets = Arrays.copyOf(spilledRowOffsets, 2 * spilledRowOffsets.length);
+        }
+        spilledRowOffsets[numSpilledRows] = spillPosition;
+        numSpilledRows++;
+
+        spillOutput.writeInt(encodedCells.length);
+        for (byte[] encodedCell : encodedCells) {
+            if (encodedCell == null) {
+                spillOutput.writeInt(-1);
+            } else {
+                spillOutput.writeInt(encodedCell.length);
+                spillOutput.write(encodedCell);
+            }
+        }
+        spillPosition += rowSize;
+    }
+
+    /**
+     * Appends the given row either on the heap or to the temporary file.
+     *
+     * @throws UncheckedIOException Thrown if the row could not be spilled.
+     */
+    @Override
+    public boolean add(@NotNull List<String> row) {
+        if (finished) {
+            throw new IllegalStateException("Rows can not be added after finishing the result");
+        }
+        try {
+            long rowSize = estimateHeapSize(row);
+            if (spillChannel == null && estimatedHeapSize + rowSize <= memoryBudget) {
+                heapRows.add(row);
+                estimatedHeapSize += rowSize;
+            } else {
+                spill(row);
+            }
+        } catch (IOException ex) {
+            closeSpillChannel();
+            throw new UncheckedIOException("Could not spill row to the temporary file", ex);
+        }
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Signals that all rows are added and maps the spilled rows into memory.
+     */
+    void finish() throws IOException {
+        if (!finished) {
+            finished = true;
+            if (spillChannel != null) {
+                try {
+                    spillOutput.flush();
+                    segments = new ByteBuffer[segmentStarts.size()];
+                    for (int i = 0; i < segments.length; i++) {
+                        long segmentStart = segmentStarts.get(i);
+                        long segmentEnd = (i + 1 < segments.length) ? segmentStarts.get(i + 1) : spillPosition;
+                        segments[i] = spillChannel.map(
+                                FileChannel.MapMode.READ_ONLY, segmentStart, segmentEnd - segmentStart);
+                    }
+                } finally {
+                    // NOTE Mapped segments stay valid after closing (and thereby deleting) the temporary file
+                    closeSpillChannel();
+                }
+            }
+        }
+    }
+
+    /**
+     * Releases the temporary file of a result which is not going to be finished, e.g. since reading the rows of the
+     * result failed. Afterwards the list can not be used anymore. Failures of releasing the file are only logged since
+     * this is meant to be called on paths which already handle another failure.
+     */
+    void discard() {
+        finished = true;
+        heapRows.clear();
+        numSpilledRows = 0;
+        try {
+            closeSpillChannel();
+        } catch (UncheckedIOException ex) {
+            LOGGER.log(Level.WARNING, "Could not remove the temporary file of a discarded result", ex);
+        }
+    }
+
+    private void closeSpillChannel() {
+        if (spillChannel != null) {
+            try {
+                spillChannel.close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not remove the temporary file of spilled rows", ex);
+            } finally {
+                spillChannel = null;
+                spillOutput = null;
+            }
+        }
+    }
+
+    /**
+     * Checks whether any rows were spilled to disk.
+     */
+    boolean isSpilled() {
+        return numSpilledRows > 0;
+    }
+
+    @NotNull
+    private List<String> decodeSpilledRow(int spilledRowIndex) {
+        long rowOffset = spilledRowOffsets[spilledRowIndex];
+        int segmentIndex = segments.length - 1;
+        while (segmentStarts.get(segmentIndex) > rowOffset) {
+            segmentIndex--;
+        }
+        ByteBuffer segment = segments[segmentIndex];
+        // NOTE Only absolute accesses are used since rows may be decoded concurrently
+        int position = (int) (rowOffset - segmentStarts.get(segmentIndex));
+        int numCells = segment.getInt(position);
+        position += Integer.BYTES;
+        String[] cells = new String[numCells];
+        for (int i = 0; i < numCells; i++) {
+            int cellLength = segment.getInt(position);
+            position += Integer.BYTES;
+            if (cellLength >= 0) {
+                byte[] encodedCell = new byte[cellLength];
+                segment.get(position, encodedCell);
+                position += cellLength;
+                cells[i] = new String(encodedCell, StandardCharsets.UTF_8);
+            }
+        }
+        return Arrays.asList(cells);
+    }
+
+    @Override
+    @NotNull
+    public List<String> get(int index) {
+        if (!finished) {
+            throw new IllegalStateException("Rows can not be accessed before finishing the result");
+        }
+        Objects.checkIndex(index, size());
+        List<String> row;
+        if (index < heapRows.size()) {
+            row = heapRows.get(index);
+        } else {
+            row = decodeSpilledRow(index - heapRows.size());
+        }
+        return row;
+    }
+
+    @Override
+    public int size() {
+        return heapRows.size() + numSpilledRows;
+    }
+}
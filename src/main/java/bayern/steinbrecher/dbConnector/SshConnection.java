@@ -1,6 +1,7 @@
 package bayern.steinbrecher.dbConnector;
 
 import bayern.steinbrecher.dbConnector.credentials.SshCredentials;
+import bayern.steinbrecher.dbConnector.query.GenerationFailedException;
 import bayern.steinbrecher.dbConnector.query.QueryFailedException;
 import bayern.steinbrecher.dbConnector.query.SupportedDBMS;
 import bayern.steinbrecher.dbConnector.query.SupportedShell;
@@ -133,12 +134,19 @@ public final class SshConnection extends DBConnection {
         String[] rows = result.split("\n");
         LOGGER.log(Level.FINE, "Query result has {0} rows", rows.length);
 
+        StringDeduplicator deduplicator = createStringDeduplicator();
         return Arrays.stream(rows)
                 .map(row -> splitUp(row, '\t'))
                 .map(rowFields -> rowFields.stream()
                         .map(f -> "0000-00-00".equals(f) ? null : f)
                         .map(f -> (f == null || "NULL".equalsIgnoreCase(f)) ? null : f)
-                        .collect(Collectors.toList()))
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .map(rowFields -> {
+                    for (int i = 0; i < rowFields.size(); i++) {
+                        rowFields.set(i, deduplicator.deduplicate(i, rowFields.get(i)));
+                    }
+                    return rowFields;
+                })
                 .collect(Collectors.toList());
     }
 
@@ -156,6 +164,72 @@ public final class SshConnection extends DBConnection {
         }
     }
 
+    /**
+     * Sends all given commands within a single invocation of the remote DBMS client.
+     *
+     * @since 0.16
+     */
+    @Override
+    public void execUpdates(@NotNull List<String> sqlCodes) throws QueryFailedException {
+        if (!sqlCodes.isEmpty()) {
+            String joinedSqlCode = sqlCodes.stream()
+                    .map(String::strip)
+                    .map(sqlCode -> sqlCode.endsWith(";") ? sqlCode : sqlCode + ";")
+                    .collect(Collectors.joining("\n"));
+            execUpdate(joinedSqlCode);
+        }
+    }
+
+    /**
+     * Sends all given commands enclosed in a transaction within a single invocation of the remote DBMS client. The
+     * affected rows are requested after each command within the same invocation. If any command fails the client
+     * aborts before committing and the transaction is rolled back when the session ends. The affected rows of an
+     * {@code UPDATE} are only the rows whose values actually changed.
+     *
+     * @since 0.16
+     */
+    @Override
+    @NotNull
+    public List<Long> execUpdatesAtomically(@NotNull List<String> sqlCodes) throws QueryFailedException {
+        if (sqlCodes.isEmpty()) {
+            return List.of();
+        }
+        String affectedRowsQuery;
+        try {
+            affectedRowsQuery = getDbms()
+                    .getQueryGenerator()
+                    .generateQueryAffectedRowsStatement();
+        } catch (GenerationFailedException ex) {
+            throw new QueryFailedException("Could not generate query for the affected rows", ex);
+        }
+        List<String> transaction = new ArrayList<>(2 * sqlCodes.size() + 2);
+        transaction.add("START TRANSACTION;");
+        for (String sqlCode : sqlCodes) {
+            String strippedSqlCode = sqlCode.strip();
+            transaction.add(strippedSqlCode.endsWith(";") ? strippedSqlCode : strippedSqlCode + ";");
+            transaction.add(affectedRowsQuery.strip());
+        }
+        transaction.add("COMMIT;");
+        List<List<String>> result = execQuery(String.join("\n", transaction));
+
+        // NOTE The client prints the heading followed by the single value for each query of the affected rows
+        if (result.size() != 2 * sqlCodes.size()) {
+            throw new QueryFailedException(String.format(
+                    "Expected the affected rows of %d statements but got %d rows", sqlCodes.size(), result.size()));
+        }
+        List<Long> affectedRows = new ArrayList<>(sqlCodes.size());
+        for (int i = 0; i < sqlCodes.size(); i++) {
+            String count = result.get(2 * i + 1).get(0);
+            try {
+                long parsedCount = (count == null) ? UNKNOWN_AFFECTED_ROWS : Long.parseLong(count);
+                affectedRows.add((parsedCount < 0) ? UNKNOWN_AFFECTED_ROWS : parsedCount);
+            } catch (NumberFormatException ex) {
+                throw new QueryFailedException(String.format("'%s' is no valid number of affected rows", count), ex);
+            }
+        }
+        return affectedRows;
+    }
+
     /**
      * Splits up a string on the given regex. The regex itself won´t show up in any element of the returned list. When
      * two or more regex are right in a row an empty {@link String} will be added. (This is the main difference to
@@ -0,0 +1,65 @@
+package bayern.steinbrecher.dbConnector;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lets equal values of the same column of a query result share a single {@link String} instance. Each column has its
+ * own pool which is bounded by a maximum number of distinct values. As soon as a column exceeds this number its pool is
+ * dropped and its values are no longer deduplicated since columns with a high cardinality hardly contain repeated
+ * values.
+ * NOTE Objects of this class are meant to be used for a single query result only and are not thread safe.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+final class StringDeduplicator {
+    private static final Map<String, String> DISABLED_POOL = Map.of();
+    private final int maxDistinctValues;
+    private final List<Map<String, String>> pools = new ArrayList<>();
+
+    /**
+     * @param maxDistinctValues The maximum number of distinct values a column may have for being deduplicated. 0
+     *                          disables deduplication.
+     */
+    StringDeduplicator(int maxDistinctValues) {
+        if (maxDistinctValues < 0) {
+            throw new IllegalArgumentException("The maximum number of distinct values must not be negative");
+        }
+        this.maxDistinctValues = maxDistinctValues;
+    }
+
+    /**
+     * Returns an instance equal to the given value which is shared with all previously deduplicated equal values of
+     * the same column.
+     *
+     * @param columnIndex The index of the column the value belongs to.
+     * @param value       The value to deduplicate.
+     * @return The shared instance if the column is still deduplicated. Otherwise the given value.
+     */
+    @Nullable
+    String deduplicate(int columnIndex, @Nullable String value) {
+        if (value == null || maxDistinctValues <= 0) {
+            return value;
+        }
+        while (pools.size() <= columnIndex) {
+            pools.add(new HashMap<>());
+        }
+        Map<String, String> pool = pools.get(columnIndex);
+        if (pool == DISABLED_POOL) {
+            return value;
+        }
+        String pooledValue = pool.putIfAbsent(value, value);
+        if (pooledValue == null) {
+            pooledValue = value;
+            if (pool.size() > maxDistinctValues) {
+                pools.set(columnIndex, DISABLED_POOL);
+            }
+        }
+        return pooledValue;
+    }
+}
@@ -0,0 +1,79 @@
+package bayern.steinbrecher.dbConnector;
+
+import bayern.steinbrecher.dbConnector.query.FingerprintStrategy;
+import bayern.steinbrecher.dbConnector.query.GenerationFailedException;
+import bayern.steinbrecher.dbConnector.query.QueryCondition;
+import bayern.steinbrecher.dbConnector.query.QueryFailedException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Requests the content of a table repeatedly but transfers it only if the table changed since the last request. Each
+ * poll first requests the fingerprint of the table. If it equals the fingerprint of the last poll the previously
+ * returned content is returned again. This is suitable for tables which are polled frequently but change rarely.
+ *
+ * @param <T> The type that represents the whole content of the table.
+ * @param <E> The type of the entries of the table.
+ * @author Stefan Huber
+ * @see DBConnection.Table#getFingerprint(FingerprintStrategy)
+ * @since 0.16
+ */
+public class TableContentPoller<T, E> {
+    private final DBConnection connection;
+    private final DBConnection.Table<T, E> table;
+    private final Collection<QueryCondition<?>> conditions;
+    private final FingerprintStrategy fingerprintStrategy;
+    /**
+     * {@code null} if there is no content yet or the fingerprint of the last content was not reliable.
+     */
+    private String lastFingerprint = null;
+    private T lastContent = null;
+    private boolean changedOnLastPoll = false;
+
+    // NOTE Only DBConnection should be allowed to create TableContentPoller objects
+    TableContentPoller(@NotNull DBConnection connection, @NotNull DBConnection.Table<T, E> table,
+                       @NotNull Collection<QueryCondition<?>> conditions,
+                       @NotNull FingerprintStrategy fingerprintStrategy) {
+        this.connection = Objects.requireNonNull(connection);
+        this.table = Objects.requireNonNull(table);
+        this.conditions = List.copyOf(conditions);
+        this.fingerprintStrategy = Objects.requireNonNull(fingerprintStrategy);
+    }
+
+    /**
+     * Returns the current content of the table. It is only requested if the fingerprint of the table changed since
+     * the last poll. Otherwise the same object as on the last poll is returned.
+     */
+    public T poll() throws GenerationFailedException, QueryFailedException {
+        // NOTE Request the fingerprint first so changes in between are at worst requested again on the next poll
+        Optional<String> fingerprint = table.getFingerprint(fingerprintStrategy);
+        changedOnLastPoll = lastFingerprint == null
+                || fingerprint.isEmpty()
+                || !lastFingerprint.equals(fingerprint.get());
+        if (changedOnLastPoll) {
+            lastContent = table.getTableScheme()
+                    .parseFrom(connection.requestTableContent(table, conditions, List.of(), OptionalInt.empty()));
+            lastFingerprint = fingerprint.orElse(null);
+        }
+        return lastContent;
+    }
+
+    /**
+     * Checks whether the content was requested on the last poll.
+     */
+    public boolean hasChangedOnLastPoll() {
+        return changedOnLastPoll;
+    }
+
+    /**
+     * Forces the next poll to request the content regardless of the fingerprint of the table.
+     */
+    public void invalidate() {
+        lastFingerprint = null;
+    }
+}
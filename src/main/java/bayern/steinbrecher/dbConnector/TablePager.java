@@ -0,0 +1,222 @@
+package bayern.steinbrecher.dbConnector;
+
+import bayern.steinbrecher.dbConnector.query.GenerationFailedException;
+import bayern.steinbrecher.dbConnector.query.QueryCondition;
+import bayern.steinbrecher.dbConnector.query.QueryFailedException;
+import bayern.steinbrecher.dbConnector.query.QueryGenerator;
+import bayern.steinbrecher.dbConnector.scheme.ColumnParser;
+import bayern.steinbrecher.dbConnector.scheme.ColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.ParseException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads the content of a table page by page. The pages are requested lazily and the table is walked along its primary
+ * key ({@code WHERE key > last ORDER BY key LIMIT size}). In contrast to pagination based on offsets the costs for
+ * requesting a page do not grow with the number of pages already read.
+ * NOTE Entries which are inserted or deleted while walking the table may or may not be reflected by subsequent pages.
+ *
+ * @param <E> The type of the entries of the table.
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class TablePager<E> implements Iterator<List<E>> {
+    private final DBConnection connection;
+    private final DBConnection.Table<?, E> table;
+    private final List<DBConnection.Column<E, ?>> keyColumns;
+    private final List<DBConnection.Column<E, ?>> columnsToSelect;
+    private int pageSize;
+    /**
+     * The primary key of the last entry of the last requested page already converted to SQL compatible values.
+     * {@code null} if no page was requested yet.
+     */
+    private List<String> lastKey = null;
+    private boolean exhausted = false;
+    private List<E> nextPage = null;
+
+    // NOTE Only DBConnection should be allowed to create TablePager objects
+    TablePager(@NotNull DBConnection connection, @NotNull DBConnection.Table<?, E> table, int pageSize)
+            throws QueryFailedException {
+        this.connection = Objects.requireNonNull(connection);
+        this.table = Objects.requireNonNull(table);
+        this.keyColumns = table.getPrimaryKeyColumns();
+        if (keyColumns.isEmpty()) {
+            throw new IllegalStateException(String.format(
+                    "Cannot page through table '%s' since it has no primary key",
+                    table.getTableScheme().getTableName()));
+        }
+        this.columnsToSelect = table.getColumnsToSelect();
+        setPageSize(pageSize);
+    }
+
+    /**
+     * Returns the maximum number of entries a single page contains.
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Changes the maximum number of entries that subsequently requested pages contain. Pages which are already
+     * requested are not affected.
+     */
+    public void setPageSize(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("A page has to contain at least a single entry");
+        }
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Converts a raw value of the given column as returned by a query to its SQL representation.
+     */
+    @NotNull
+    static <E, C> String convertToSQLValue(@NotNull DBConnection.Column<E, C> column, @Nullable String value)
+            throws QueryFailedException {
+        Optional<ColumnPattern<C, E>> pattern = column.pattern();
+        if (pattern.isEmpty()) {
+            throw new QueryFailedException(
+                    String.format("There is no pattern for converting values of the key column '%s'", column.name()));
+        }
+        ColumnParser<C> parser = pattern.get().getParser();
+        try {
+            return parser.toString(parser.parse(value));
+        } catch (ParseException ex) {
+            throw new QueryFailedException(
+                    String.format("Could not convert the value '%s' of the key column '%s'", value, column.name()), ex);
+        }
+    }
+
+    @NotNull
+    private List<String> extractKey(@NotNull List<String> headings, @NotNull List<String> row)
+            throws QueryFailedException {
+        List<String> key = new ArrayList<>(keyColumns.size());
+        for (DBConnection.Column<E, ?> column : keyColumns) {
+            int index = -1;
+            for (int i = 0; i < headings.size() && index < 0; i++) {
+                if (headings.get(i).equalsIgnoreCase(column.name())) {
+                    index = i;
+                }
+            }
+            if (index < 0) {
+                throw new QueryFailedException(
+                        String.format("The result of the page query misses the key column '%s'", column.name()));
+            }
+            key.add(convertToSQLValue(column, row.get(index)));
+        }
+        return key;
+    }
+
+    @NotNull
+    private List<E> requestNextPage() throws QueryFailedException {
+        QueryGenerator queryGenerator = connection.getDbms()
+                .getQueryGenerator();
+        List<QueryCondition<?>> conditions;
+        if (lastKey == null) {
+            conditions = Collections.emptyList();
+        } else {
+            conditions = List.of(queryGenerator.generateKeysetCondition(keyColumns, lastKey));
+        }
+        String pageQuery;
+        try {
+            pageQuery = queryGenerator.generateSearchQueryStatement(connection.getDatabaseName(), table,
+                    columnsToSelect, conditions, keyColumns, OptionalInt.of(pageSize));
+        } catch (GenerationFailedException ex) {
+            throw new QueryFailedException(
+                    String.format("Could not generate query for the next page of table '%s'",
+                            table.getTableScheme().getTableName()), ex);
+        }
+
+        int requestedPageSize = pageSize;
+        List<List<String>> result = connection.execQuery(pageQuery);
+        int numRows = result.size() - 1; // Skip headings
+        if (numRows < requestedPageSize) {
+            exhausted = true;
+        }
+        if (numRows > 0) {
+            lastKey = extractKey(result.get(0), result.get(numRows));
+        }
+        return table.getTableScheme()
+                .parseEntriesFrom(result)
+                .toList();
+    }
+
+    /**
+     * Requests the next page of entries.
+     *
+     * @return The entries of the next page. {@link Optional#empty()} if and only if all entries of the table were
+     * already returned.
+     */
+    @NotNull
+    public Optional<List<E>> requestPage() throws QueryFailedException {
+        if (nextPage == null && !exhausted) {
+            List<E> page = requestNextPage();
+            if (page.isEmpty()) {
+                exhausted = true;
+            } else {
+                nextPage = page;
+            }
+        }
+        Optional<List<E>> page = Optional.ofNullable(nextPage);
+        nextPage = null;
+        return page;
+    }
+
+    /**
+     * @throws IllegalStateException Thrown if requesting the next page failed.
+     */
+    @Override
+    public boolean hasNext() {
+        if (nextPage == null) {
+            try {
+                nextPage = requestPage()
+                        .orElse(null);
+            } catch (QueryFailedException ex) {
+                throw new IllegalStateException(String.format(
+                        "Could not request the next page of table '%s'", table.getTableScheme().getTableName()), ex);
+            }
+        }
+        return nextPage != null;
+    }
+
+    /**
+     * @throws IllegalStateException Thrown if requesting the next page failed.
+     */
+    @Override
+    @NotNull
+    public List<E> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("All pages of the table were already returned");
+        }
+        List<E> page = nextPage;
+        nextPage = null;
+        return page;
+    }
+
+    /**
+     * Returns all remaining entries of the table. The pages containing the entries are requested only when the
+     * returned {@link Stream} is consumed.
+     *
+     * @see #hasNext()
+     * @see #next()
+     */
+    @NotNull
+    public Stream<E> stream() {
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .flatMap(List::stream);
+    }
+}
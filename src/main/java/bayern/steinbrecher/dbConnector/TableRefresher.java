@@ -0,0 +1,212 @@
+package bayern.steinbrecher.dbConnector;
+
+import bayern.steinbrecher.dbConnector.query.GenerationFailedException;
+import bayern.steinbrecher.dbConnector.query.QueryCondition;
+import bayern.steinbrecher.dbConnector.query.QueryFailedException;
+import bayern.steinbrecher.dbConnector.query.QueryGenerator;
+import bayern.steinbrecher.dbConnector.scheme.ColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.SimpleColumnPattern;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+/**
+ * Keeps a list of entries up to date with the content of a table while transferring only rows which changed since the
+ * last refresh. On each refresh the primary key and a version of all rows is requested first. The version is either the
+ * value of the version column of the table scheme or a checksum over all mapped columns computed by the DBMS. Only rows
+ * whose version differs from the one seen on the last refresh are requested completely. The list is updated using as
+ * few modifications as possible, i.e. changed entries are replaced in place, removed entries are removed and new
+ * entries are appended. Tables having mapped columns whose SQL types are not supported require a version column.
+ * NOTE The first refresh requests all rows since no versions are known yet. Afterwards the list is assumed to be
+ * modified by this refresher only.
+ *
+ * @param <E> The type of the entries of the table.
+ * @author Stefan Huber
+ * @see bayern.steinbrecher.dbConnector.scheme.TableScheme#getVersionColumn()
+ * @since 0.16
+ */
+public class TableRefresher<E> {
+    private final DBConnection connection;
+    private final DBConnection.Table<?, E> table;
+    private final Collection<QueryCondition<?>> conditions;
+    private final List<DBConnection.Column<E, ?>> keyColumns;
+    private final List<DBConnection.Column<E, ?>> columnsToSelect;
+    private final List<DBConnection.Column<E, ?>> checksumColumns;
+    private final Optional<DBConnection.Column<E, ?>> versionColumn;
+    /**
+     * The versions of all rows seen on the last refresh keyed by their primary key converted to SQL compatible values.
+     * {@code null} if no refresh happened yet.
+     */
+    private Map<List<String>, String> knownVersions = null;
+
+    // NOTE Only DBConnection should be allowed to create TableRefresher objects
+    TableRefresher(@NotNull DBConnection connection, @NotNull DBConnection.Table<?, E> table,
+                   @NotNull Collection<QueryCondition<?>> conditions) throws QueryFailedException {
+        this.connection = Objects.requireNonNull(connection);
+        this.table = Objects.requireNonNull(table);
+        this.conditions = List.copyOf(conditions);
+        this.keyColumns = table.getPrimaryKeyColumns();
+        if (keyColumns.isEmpty()) {
+            throw new IllegalStateException(String.format(
+                    "Cannot refresh entries of table '%s' since it has no primary key",
+                    table.getTableScheme().getTableName()));
+        }
+        this.columnsToSelect = table.getColumnsToSelect();
+        this.checksumColumns = table.getMappedColumns();
+        Optional<SimpleColumnPattern<?, E>> versionPattern = table.getTableScheme().getVersionColumn();
+        if (versionPattern.isPresent()) {
+            versionColumn = checksumColumns.stream()
+                    .filter(column -> column.pattern().filter(versionPattern.get()::equals).isPresent())
+                    .findAny();
+            if (versionColumn.isEmpty()) {
+                throw new IllegalStateException(String.format(
+                        "Table '%s' misses its version column", table.getTableScheme().getTableName()));
+            }
+        } else {
+            versionColumn = Optional.empty();
+            if (table.hasUnsupportedMappedColumns()) {
+                // NOTE The checksums could not reflect changes of these columns
+                throw new IllegalStateException(String.format(
+                        "Table '%s' needs a version column since some of its columns have unsupported SQL types",
+                        table.getTableScheme().getTableName()));
+            }
+        }
+    }
+
+    @NotNull
+    private Map<List<String>, String> requestVersions(@NotNull QueryGenerator queryGenerator)
+            throws QueryFailedException {
+        String versionsQuery;
+        try {
+            versionsQuery = queryGenerator.generateQueryRowVersionsStatement(
+                    connection.getDatabaseName(), table, keyColumns, versionColumn, checksumColumns, conditions);
+        } catch (GenerationFailedException ex) {
+            throw new QueryFailedException(
+                    String.format("Could not generate query for the row versions of table '%s'",
+                            table.getTableScheme().getTableName()), ex);
+        }
+        List<List<String>> result = connection.execQuery(versionsQuery);
+        Map<List<String>, String> versions = new LinkedHashMap<>();
+        for (List<String> row : result.subList(1, result.size())) { // Skip headings
+            List<String> key = new ArrayList<>(keyColumns.size());
+            for (int i = 0; i < keyColumns.size(); i++) {
+                key.add(TablePager.convertToSQLValue(keyColumns.get(i), row.get(i)));
+            }
+            versions.put(key, row.get(keyColumns.size()));
+        }
+        return versions;
+    }
+
+    @NotNull
+    private List<E> requestEntries(@NotNull QueryGenerator queryGenerator,
+                                   @NotNull Collection<QueryCondition<?>> conditions) throws QueryFailedException {
+        String searchQuery;
+        try {
+            searchQuery = queryGenerator.generateSearchQueryStatement(connection.getDatabaseName(), table,
+                    columnsToSelect, conditions, List.of(), OptionalInt.empty());
+        } catch (GenerationFailedException ex) {
+            throw new QueryFailedException(
+                    String.format("Could not generate query for the changed rows of table '%s'",
+                            table.getTableScheme().getTableName()), ex);
+        }
+        return table.getTableScheme()
+                .parseEntriesFrom(connection.execQuery(searchQuery))
+                .toList();
+    }
+
+    @NotNull
+    private List<String> getPrimaryKey(@NotNull E entry) throws QueryFailedException {
+        List<String> key = new ArrayList<>(keyColumns.size());
+        for (DBConnection.Column<E, ?> column : keyColumns) {
+            Optional<? extends ColumnPattern<?, E>> pattern = column.pattern();
+            if (pattern.isEmpty()) {
+                throw new QueryFailedException(
+                        String.format("There is no pattern for extracting values of the key column '%s'",
+                                column.name()));
+            }
+            key.add(pattern.get().getSQLValue(entry, column.name()));
+        }
+        return key;
+    }
+
+    /**
+     * Requests all rows which changed since the last refresh and applies the changes to the given list.
+     *
+     * @param target The list to update. It should contain only entries which were put into it by this refresher. In
+     *               case of an {@link javafx.collections.ObservableList} listeners are notified about each single
+     *               modification.
+     * @return The number of entries which were added, replaced or removed.
+     */
+    public int refresh(@NotNull List<E> target) throws QueryFailedException {
+        QueryGenerator queryGenerator = connection.getDbms()
+                .getQueryGenerator();
+        // NOTE Request versions first so changes in between are at worst requested again on the next refresh
+        Map<List<String>, String> currentVersions = requestVersions(queryGenerator);
+
+        List<E> changedEntries;
+        if (knownVersions == null) {
+            changedEntries = requestEntries(queryGenerator, conditions);
+        } else {
+            List<List<String>> changedKeys = new ArrayList<>();
+            currentVersions.forEach((key, version) -> {
+                if (!knownVersions.containsKey(key) || !Objects.equals(knownVersions.get(key), version)) {
+                    changedKeys.add(key);
+                }
+            });
+            changedEntries = new ArrayList<>(changedKeys.size());
+            for (int chunkStart = 0; chunkStart < changedKeys.size();
+                 chunkStart += QueryGenerator.DEFAULT_MAX_KEYS_PER_STATEMENT) {
+                List<List<String>> chunk = changedKeys.subList(chunkStart,
+                        Math.min(chunkStart + QueryGenerator.DEFAULT_MAX_KEYS_PER_STATEMENT, changedKeys.size()));
+                List<QueryCondition<?>> chunkConditions = new ArrayList<>(conditions);
+                chunkConditions.add(queryGenerator.generateKeyInCondition(keyColumns, chunk));
+                changedEntries.addAll(requestEntries(queryGenerator, chunkConditions));
+            }
+        }
+
+        Map<List<String>, Integer> targetIndices = new HashMap<>();
+        for (int i = 0; i < target.size(); i++) {
+            targetIndices.put(getPrimaryKey(target.get(i)), i);
+        }
+
+        int numModifications = 0;
+        List<E> addedEntries = new ArrayList<>();
+        for (E entry : changedEntries) {
+            Integer index = targetIndices.get(getPrimaryKey(entry));
+            if (index == null) {
+                addedEntries.add(entry);
+            } else if (!Objects.equals(target.get(index), entry)) {
+                target.set(index, entry);
+                numModifications++;
+            }
+        }
+
+        List<Integer> removedIndices = new ArrayList<>();
+        targetIndices.forEach((key, index) -> {
+            if (!currentVersions.containsKey(key)) {
+                removedIndices.add(index);
+            }
+        });
+        // NOTE Remove from the back so the remaining indices stay valid
+        removedIndices.sort(Collections.reverseOrder());
+        for (int index : removedIndices) {
+            target.remove(index);
+        }
+        numModifications += removedIndices.size();
+
+        target.addAll(addedEntries);
+        numModifications += addedEntries.size();
+
+        knownVersions = currentVersions;
+        return numModifications;
+    }
+}
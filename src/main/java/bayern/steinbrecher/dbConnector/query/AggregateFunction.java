@@ -0,0 +1,29 @@
+package bayern.steinbrecher.dbConnector.query;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the aggregate functions which can be computed by a DBMS.
+ *
+ * @author Stefan Huber
+ * @see Aggregation
+ * @since 0.16
+ */
+public enum AggregateFunction {
+    COUNT("COUNT"),
+    SUM("SUM"),
+    MIN("MIN"),
+    MAX("MAX"),
+    AVG("AVG");
+
+    private final String sqlKeyword;
+
+    AggregateFunction(@NotNull String sqlKeyword) {
+        this.sqlKeyword = sqlKeyword;
+    }
+
+    @NotNull
+    public String getSqlKeyword() {
+        return sqlKeyword;
+    }
+}
@@ -0,0 +1,135 @@
+package bayern.steinbrecher.dbConnector.query;
+
+import bayern.steinbrecher.dbConnector.DBConnection.Column;
+import bayern.steinbrecher.dbConnector.scheme.ColumnParser;
+import bayern.steinbrecher.dbConnector.scheme.ColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.ParseException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Represents an aggregate function applied to a column of a table which is computed by the DBMS. Since the type of the
+ * result depends on the function as well as on the type of the column only the static factory methods allow creating
+ * instances.
+ *
+ * @param <E> The type of the entries of the table to aggregate.
+ * @param <R> The type of the result of the aggregation.
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public final class Aggregation<E, R> {
+    private final AggregateFunction function;
+    private final Optional<Column<E, ?>> column;
+    private final ResultParser<R> resultParser;
+
+    private Aggregation(@NotNull AggregateFunction function, @NotNull Optional<Column<E, ?>> column,
+                        @NotNull ResultParser<R> resultParser) {
+        this.function = Objects.requireNonNull(function);
+        this.column = Objects.requireNonNull(column);
+        this.resultParser = Objects.requireNonNull(resultParser);
+    }
+
+    @Nullable
+    private static Long parseLong(@Nullable String value) throws ParseException {
+        Long parsedValue = null;
+        if (value != null) {
+            try {
+                parsedValue = Long.parseLong(value);
+            } catch (NumberFormatException ex) {
+                throw new ParseException(ex);
+            }
+        }
+        return parsedValue;
+    }
+
+    /**
+     * Returns the parser for values of the given column. If the column has no associated pattern the default parser
+     * for the type of the column is used.
+     */
+    @NotNull
+    static <E, C> ColumnParser<C> getParser(@NotNull Column<E, C> column) {
+        return column.pattern()
+                .map(ColumnPattern::getParser)
+                .or(() -> ColumnParser.getParser(column.columnType()))
+                .orElseThrow(() -> new NoSuchElementException(
+                        String.format("There is no parser for values of column '%s'", column.name())));
+    }
+
+    /**
+     * Counts all entries ({@code COUNT(*)}).
+     */
+    @NotNull
+    public static <E> Aggregation<E, Long> count() {
+        return new Aggregation<>(AggregateFunction.COUNT, Optional.empty(), Aggregation::parseLong);
+    }
+
+    /**
+     * Counts all entries whose value in the given column is not {@code NULL}.
+     */
+    @NotNull
+    public static <E> Aggregation<E, Long> count(@NotNull Column<E, ?> column) {
+        return new Aggregation<>(AggregateFunction.COUNT, Optional.of(column), Aggregation::parseLong);
+    }
+
+    @NotNull
+    public static <E> Aggregation<E, Long> sumI(@NotNull Column<E, Integer> column) {
+        return new Aggregation<>(AggregateFunction.SUM, Optional.of(column), Aggregation::parseLong);
+    }
+
+    @NotNull
+    public static <E> Aggregation<E, Double> sumD(@NotNull Column<E, Double> column) {
+        return new Aggregation<>(
+                AggregateFunction.SUM, Optional.of(column), ColumnParser.DOUBLE_COLUMN_PARSER::parse);
+    }
+
+    @NotNull
+    public static <E> Aggregation<E, Double> avg(@NotNull Column<E, ? extends Number> column) {
+        return new Aggregation<>(
+                AggregateFunction.AVG, Optional.of(column), ColumnParser.DOUBLE_COLUMN_PARSER::parse);
+    }
+
+    @NotNull
+    public static <E, C> Aggregation<E, C> min(@NotNull Column<E, C> column) {
+        return new Aggregation<>(AggregateFunction.MIN, Optional.of(column), getParser(column)::parse);
+    }
+
+    @NotNull
+    public static <E, C> Aggregation<E, C> max(@NotNull Column<E, C> column) {
+        return new Aggregation<>(AggregateFunction.MAX, Optional.of(column), getParser(column)::parse);
+    }
+
+    @NotNull
+    public AggregateFunction getFunction() {
+        return function;
+    }
+
+    /**
+     * @return The column to aggregate. {@link Optional#empty()} if all entries are aggregated as a whole (e.g.
+     * {@code COUNT(*)}).
+     */
+    @NotNull
+    public Optional<Column<E, ?>> getColumn() {
+        return column;
+    }
+
+    /**
+     * Parses a value returned by the DBMS for this aggregation.
+     *
+     * @return The parsed value. Returns {@code null} if the value is {@code null}, e.g. if the aggregation of a column
+     * is requested for a set of entries that contains no (non {@code NULL}) value.
+     */
+    @Nullable
+    public R parseResult(@Nullable String value) throws ParseException {
+        return resultParser.parse(value);
+    }
+
+    @FunctionalInterface
+    private interface ResultParser<R> {
+        @Nullable
+        R parse(@Nullable String value) throws ParseException;
+    }
+}
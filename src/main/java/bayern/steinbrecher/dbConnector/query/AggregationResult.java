@@ -0,0 +1,91 @@
+package bayern.steinbrecher.dbConnector.query;
+
+import bayern.steinbrecher.dbConnector.DBConnection.Column;
+import bayern.steinbrecher.dbConnector.scheme.ParseException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Represents a row of the result of an aggregate query, i.e. the values of the grouped columns and the values of all
+ * requested aggregations for this group.
+ *
+ * @param <E> The type of the entries of the aggregated table.
+ * @author Stefan Huber
+ * @see QueryGenerator#generateAggregateQueryStatement(String, bayern.steinbrecher.dbConnector.DBConnection.Table,
+ * List, List, Iterable)
+ * @since 0.16
+ */
+public final class AggregationResult<E> {
+    private final Map<Column<E, ?>, Object> groupValues;
+    private final Map<Aggregation<E, ?>, Object> aggregationValues;
+
+    private AggregationResult(@NotNull Map<Column<E, ?>, Object> groupValues,
+                              @NotNull Map<Aggregation<E, ?>, Object> aggregationValues) {
+        this.groupValues = Objects.requireNonNull(groupValues);
+        this.aggregationValues = Objects.requireNonNull(aggregationValues);
+    }
+
+    /**
+     * Parses a row of the result of a query generated by
+     * {@link QueryGenerator#generateAggregateQueryStatement(String, bayern.steinbrecher.dbConnector.DBConnection.Table,
+     * List, List, Iterable)}.
+     *
+     * @param row The row to parse (NOT including the headings).
+     */
+    @NotNull
+    public static <E> AggregationResult<E> parseFrom(@NotNull List<? extends Aggregation<E, ?>> aggregations,
+                                                     @NotNull List<? extends Column<E, ?>> groupBy,
+                                                     @NotNull List<String> row) throws ParseException {
+        if (row.size() != groupBy.size() + aggregations.size()) {
+            throw new ParseException(String.format(
+                    "Expected %d values for the grouped columns and aggregations but got %d",
+                    groupBy.size() + aggregations.size(), row.size()));
+        }
+        Map<Column<E, ?>, Object> groupValues = new HashMap<>();
+        for (int i = 0; i < groupBy.size(); i++) {
+            Column<E, ?> column = groupBy.get(i);
+            groupValues.put(column, Aggregation.getParser(column).parse(row.get(i)));
+        }
+        Map<Aggregation<E, ?>, Object> aggregationValues = new HashMap<>();
+        for (int i = 0; i < aggregations.size(); i++) {
+            Aggregation<E, ?> aggregation = aggregations.get(i);
+            aggregationValues.put(aggregation, aggregation.parseResult(row.get(groupBy.size() + i)));
+        }
+        return new AggregationResult<>(groupValues, aggregationValues);
+    }
+
+    /**
+     * Returns the value of the given grouped column which is shared by all entries of this group.
+     *
+     * @throws NoSuchElementException Thrown if the results are not grouped by the given column.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <C> C getGroupValue(@NotNull Column<E, C> column) {
+        if (!groupValues.containsKey(column)) {
+            throw new NoSuchElementException(
+                    String.format("The results are not grouped by column '%s'", column.name()));
+        }
+        return (C) groupValues.get(column);
+    }
+
+    /**
+     * Returns the value of the given aggregation for this group.
+     *
+     * @throws NoSuchElementException Thrown if the given aggregation was not requested.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <R> R get(@NotNull Aggregation<E, R> aggregation) {
+        if (!aggregationValues.containsKey(aggregation)) {
+            throw new NoSuchElementException("The given aggregation was not requested");
+        }
+        return (R) aggregationValues.get(aggregation);
+    }
+}
@@ -0,0 +1,82 @@
+package bayern.steinbrecher.dbConnector.query;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Represents a condition which combines other conditions using a logical connective. Since the operands may be
+ * composite conditions themselves arbitrary trees of conditions can be expressed. Like any other condition its SQL
+ * expression can be used in any generated statement which accepts conditions.
+ *
+ * @author Stefan Huber
+ * @see QueryCondition#and(Collection)
+ * @see QueryCondition#or(Collection)
+ * @see QueryCondition#not(QueryCondition)
+ * @since 0.16
+ */
+public final class CompositeQueryCondition extends QueryCondition<Boolean> {
+    private final Connective connective;
+    private final List<QueryCondition<?>> operands;
+
+    CompositeQueryCondition(@NotNull Connective connective, @NotNull Collection<? extends QueryCondition<?>> operands) {
+        super(generateSqlExpression(connective, operands));
+        this.connective = connective;
+        this.operands = List.copyOf(operands);
+    }
+
+    @NotNull
+    private static String generateSqlExpression(
+            @NotNull Connective connective, @NotNull Collection<? extends QueryCondition<?>> operands) {
+        String sqlExpression;
+        if (connective == Connective.NOT) {
+            if (operands.size() != 1) {
+                throw new IllegalArgumentException("A negation requires exactly a single operand");
+            }
+            sqlExpression = String.format("NOT (%s)", operands.iterator().next().getSqlExpression());
+        } else if (operands.isEmpty()) {
+            // NOTE An empty conjunction is always fulfilled whereas an empty disjunction is never fulfilled
+            sqlExpression = connective == Connective.AND ? "TRUE" : "FALSE";
+        } else {
+            sqlExpression = operands.stream()
+                    .map(operand -> "(" + Objects.requireNonNull(operand).getSqlExpression() + ")")
+                    .collect(Collectors.joining(" " + connective.getSqlKeyword() + " ", "(", ")"));
+        }
+        return sqlExpression;
+    }
+
+    @NotNull
+    public Connective getConnective() {
+        return connective;
+    }
+
+    @NotNull
+    @Unmodifiable
+    public List<QueryCondition<?>> getOperands() {
+        return operands;
+    }
+
+    /**
+     * @since 0.16
+     */
+    public enum Connective {
+        AND("AND"),
+        OR("OR"),
+        NOT("NOT");
+
+        private final String sqlKeyword;
+
+        Connective(@NotNull String sqlKeyword) {
+            this.sqlKeyword = sqlKeyword;
+        }
+
+        @NotNull
+        public String getSqlKeyword() {
+            return sqlKeyword;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package bayern.steinbrecher.dbConnector.query;
+
+/**
+ * Specifies how the DBMS computes the fingerprint of the content of a table, i.e. a small value which changes whenever
+ * the content changes. The strategies differ in their cost and in which modifications they are able to detect.
+ *
+ * @author Stefan Huber
+ * @see bayern.steinbrecher.dbConnector.DBConnection.Table#getFingerprint(FingerprintStrategy)
+ * @see SupportedDBMS#getFingerprintStrategy()
+ * @since 0.16
+ */
+public enum FingerprintStrategy {
+    /**
+     * Uses the time of the last modification the DBMS tracks for each table. This only requires reading metadata. If
+     * the DBMS does not track the time for a table (e.g. for InnoDB tables of MariaDB) {@link #CHECKSUM} is used
+     * instead.
+     * NOTE MySQL 8 caches the time of the last modification for {@code information_schema_stats_expiry} seconds (one
+     * day per default) so it is not suitable for MySQL.
+     */
+    UPDATE_TIME,
+    /**
+     * Uses a checksum over the whole content of the table ({@code CHECKSUM TABLE}). It detects any modification but
+     * for storage engines like InnoDB the DBMS has to read every row of the table, i.e. the cost grows with the size
+     * of the table. It only avoids transferring the content.
+     */
+    CHECKSUM,
+    /**
+     * Uses the number of rows and the greatest value of each primary key column. The greatest values are looked up in
+     * the primary key index. Counting the rows only traverses the smallest index of the table which usually is much
+     * smaller than the content {@link #CHECKSUM} reads. If the table has no primary key only the rows are counted.
+     * NOTE It only detects modifications which change the number of rows or the greatest key, e.g. appending rows. It
+     * does NOT detect updates of rows or deleting and inserting the same number of rows below the greatest key.
+     */
+    ROW_COUNT_AND_MAX_KEY
+}
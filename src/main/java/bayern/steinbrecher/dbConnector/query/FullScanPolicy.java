@@ -0,0 +1,23 @@
+package bayern.steinbrecher.dbConnector.query;
+
+/**
+ * Specifies how to treat generated queries whose {@link QueryPlan} contains full scans of large tables.
+ *
+ * @author Stefan Huber
+ * @see QueryPlan#getFullScans(long)
+ * @since 0.16
+ */
+public enum FullScanPolicy {
+    /**
+     * The query plans are not inspected at all.
+     */
+    IGNORE,
+    /**
+     * Queries containing full scans are logged and executed anyway.
+     */
+    LOG,
+    /**
+     * Queries containing full scans are not executed.
+     */
+    REJECT
+}
@@ -2,6 +2,9 @@ package bayern.steinbrecher.dbConnector.query;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -24,4 +27,54 @@ public class QueryCondition<T> {
     public String getSqlExpression() {
         return sqlExpression;
     }
+
+    /**
+     * Returns a condition which is fulfilled if and only if all given conditions are fulfilled. If no conditions are
+     * given the resulting condition is always fulfilled.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    public static CompositeQueryCondition and(@NotNull Collection<? extends QueryCondition<?>> operands) {
+        return new CompositeQueryCondition(CompositeQueryCondition.Connective.AND, operands);
+    }
+
+    /**
+     * @see #and(Collection)
+     * @since 0.16
+     */
+    @NotNull
+    public static CompositeQueryCondition and(@NotNull QueryCondition<?>... operands) {
+        return and(Arrays.asList(operands));
+    }
+
+    /**
+     * Returns a condition which is fulfilled if and only if any of the given conditions is fulfilled. If no conditions
+     * are given the resulting condition is never fulfilled.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    public static CompositeQueryCondition or(@NotNull Collection<? extends QueryCondition<?>> operands) {
+        return new CompositeQueryCondition(CompositeQueryCondition.Connective.OR, operands);
+    }
+
+    /**
+     * @see #or(Collection)
+     * @since 0.16
+     */
+    @NotNull
+    public static CompositeQueryCondition or(@NotNull QueryCondition<?>... operands) {
+        return or(Arrays.asList(operands));
+    }
+
+    /**
+     * Returns a condition which is fulfilled if and only if the given condition is not fulfilled.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    public static CompositeQueryCondition not(@NotNull QueryCondition<?> operand) {
+        return new CompositeQueryCondition(CompositeQueryCondition.Connective.NOT, List.of(operand));
+    }
 }
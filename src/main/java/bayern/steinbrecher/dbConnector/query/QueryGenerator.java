@@ -24,12 +24,18 @@ import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.logging.Level;
@@ -43,6 +49,13 @@ import java.util.stream.Collectors;
  */
 public class QueryGenerator {
     private static final Logger LOGGER = Logger.getLogger(QueryGenerator.class.getName());
+    /**
+     * The maximum number of keys which are combined into a single statement if not specified otherwise. It keeps
+     * generated statements well below common limits for the size of packets sent to the DBMS.
+     *
+     * @since 0.16
+     */
+    public static final int DEFAULT_MAX_KEYS_PER_STATEMENT = 1000;
     // NOTE Allow creation only within {@link SupportedDatabases}
     private static final Class<SupportedDBMS> TEMPLATE_PROVIDING_CLASS = SupportedDBMS.class;
     @SuppressWarnings("Convert2Lambda")
@@ -67,7 +80,18 @@ public class QueryGenerator {
     private final Template queryColumnNamesAndTypesTemplate;
     private final Template searchQueryTemplate;
     private final Template insertQueryTemplate;
+    private final Template insertRowsQueryTemplate;
     private final Template updateQueryTemplate;
+    private final Template deleteQueryTemplate;
+    private final Template deleteByKeysQueryTemplate;
+    private final Template aggregateQueryTemplate;
+    private final Template queryIndicesTemplate;
+    private final Template loadDataQueryTemplate;
+    private final Template explainQueryTemplate;
+    private final Template queryRowVersionsTemplate;
+    private final Template queryTableUpdateTimeTemplate;
+    private final Template checksumTableTemplate;
+    private final Template queryAffectedRowsTemplate;
 
     /**
      * NOTE Only the class {@link SupportedDBMS} should instantiate objects of this class.
@@ -104,7 +128,18 @@ public class QueryGenerator {
             queryColumnNamesAndTypesTemplate = templateConfig.getTemplate("queryColumnNamesAndTypes.ftlh");
             searchQueryTemplate = templateConfig.getTemplate("searchQuery.ftlh");
             insertQueryTemplate = templateConfig.getTemplate("insertQuery.ftlh");
+            insertRowsQueryTemplate = templateConfig.getTemplate("insertRowsQuery.ftlh");
             updateQueryTemplate = templateConfig.getTemplate("updateQuery.ftlh");
+            deleteQueryTemplate = templateConfig.getTemplate("deleteQuery.ftlh");
+            deleteByKeysQueryTemplate = templateConfig.getTemplate("deleteByKeysQuery.ftlh");
+            aggregateQueryTemplate = templateConfig.getTemplate("aggregateQuery.ftlh");
+            queryIndicesTemplate = templateConfig.getTemplate("queryIndices.ftlh");
+            loadDataQueryTemplate = templateConfig.getTemplate("loadDataQuery.ftlh");
+            explainQueryTemplate = templateConfig.getTemplate("explainQuery.ftlh");
+            queryRowVersionsTemplate = templateConfig.getTemplate("queryRowVersions.ftlh");
+            queryTableUpdateTimeTemplate = templateConfig.getTemplate("queryTableUpdateTime.ftlh");
+            checksumTableTemplate = templateConfig.getTemplate("checksumTable.ftlh");
+            queryAffectedRowsTemplate = templateConfig.getTemplate("queryAffectedRows.ftlh");
         } catch (IOException ex) {
             throw new ExceptionInInitializerError(ex);
         }
@@ -184,6 +219,72 @@ public class QueryGenerator {
                 ));
     }
 
+    /**
+     * Generates a statement returning the plan the DBMS chooses for executing the given query. The plan is returned in
+     * its tabular format as parsed by {@link QueryPlan#parseFrom(List)}.
+     *
+     * @param query The query to explain without executing it.
+     * @since 0.16
+     */
+    @NotNull
+    public String generateExplainStatement(@NotNull String query) throws GenerationFailedException {
+        if (query.isBlank()) {
+            throw new GenerationFailedException("Cannot explain an empty query");
+        }
+        return populateTemplate(explainQueryTemplate, Map.of("query", query.strip()));
+    }
+
+    /**
+     * Generates a query returning a row for each column of each index of the given table. Each row contains the name of
+     * the index, the name of the column and whether the index allows duplicates. The rows of an index are ordered by
+     * the position of the column within the index.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    public String generateQueryIndicesStatement(@NotNull String dbName, @NotNull DBConnection.Table<?, ?> table)
+            throws GenerationFailedException {
+        return populateTemplate(
+                queryIndicesTemplate, Map.of(
+                        "dbName", Objects.requireNonNull(dbName),
+                        "table", Objects.requireNonNull(table)
+                ));
+    }
+
+    /**
+     * Generates a query returning the time of the last modification of the given table as tracked by the DBMS and the
+     * current time of the DBMS. The time of the last modification is {@code NULL} if the DBMS does not track it.
+     * NOTE MySQL 8 caches the time of the last modification, so it may be outdated.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    public String generateQueryTableUpdateTimeStatement(@NotNull String dbName,
+                                                        @NotNull DBConnection.Table<?, ?> table)
+            throws GenerationFailedException {
+        return populateTemplate(
+                queryTableUpdateTimeTemplate, Map.of(
+                        "dbName", Objects.requireNonNull(dbName),
+                        "table", Objects.requireNonNull(table)
+                ));
+    }
+
+    /**
+     * Generates a query returning a checksum over the whole content of the given table which is computed by the DBMS.
+     * NOTE Depending on the storage engine the DBMS has to read the whole table for computing the checksum.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    public String generateChecksumTableStatement(@NotNull String dbName, @NotNull DBConnection.Table<?, ?> table)
+            throws GenerationFailedException {
+        return populateTemplate(
+                checksumTableTemplate, Map.of(
+                        "dbName", Objects.requireNonNull(dbName),
+                        "table", Objects.requireNonNull(table)
+                ));
+    }
+
     /**
      * @since 0.16
      */
@@ -198,9 +299,7 @@ public class QueryGenerator {
             for (DBConnection.Column<E, C> column : columns) {
                 Optional<? extends ColumnPattern<C, E>> pattern = column.pattern();
                 if (pattern.isPresent()) {
-                    C cellValue = pattern.get().getValue(entry, column.name());
-                    String sqlValue = pattern.get().getParser().toString(cellValue);
-                    fieldEntries.put(column.name(), sqlValue);
+                    fieldEntries.put(column.name(), pattern.get().getSQLValue(entry, column.name()));
                 }
             }
         } catch (QueryFailedException ex) {
@@ -224,6 +323,84 @@ public class QueryGenerator {
                 ));
     }
 
+    /**
+     * Generates statements inserting the given entries. The values of up to {@code maxRowsPerStatement} entries are
+     * combined into a single multi-row {@code INSERT}. Only columns associated with a pattern are populated.
+     *
+     * @param maxRowsPerStatement The maximum number of entries a single statement inserts.
+     * @return The statements which have to be executed for inserting all given entries. The list is empty if no
+     * entries are given.
+     * @since 0.16
+     */
+    @NotNull
+    public <E> List<String> generateInsertRowsStatements(
+            @NotNull String dbName, @NotNull DBConnection.Table<?, E> table, @NotNull Collection<? extends E> entries,
+            int maxRowsPerStatement) throws GenerationFailedException {
+        if (maxRowsPerStatement < 1) {
+            throw new IllegalArgumentException("Each statement has to insert at least a single entry");
+        }
+
+        List<DBConnection.Column<E, ?>> columns;
+        try {
+            columns = table.getColumns()
+                    .stream()
+                    .filter(column -> column.pattern().isPresent())
+                    .sorted(Comparator.comparingInt(DBConnection.Column::index))
+                    .<DBConnection.Column<E, ?>>map(column -> column)
+                    .toList();
+        } catch (QueryFailedException ex) {
+            throw new GenerationFailedException("Could not generate statements for inserting new entries", ex);
+        }
+        if (columns.isEmpty()) {
+            throw new GenerationFailedException(
+                    "Could not find any column in the scheme that the entries can populate");
+        }
+
+        List<List<String>> rowsOfStatement = new ArrayList<>(Math.min(entries.size(), maxRowsPerStatement));
+        List<String> statements = new ArrayList<>();
+        for (E entry : entries) {
+            List<String> row = new ArrayList<>(columns.size());
+            for (DBConnection.Column<E, ?> column : columns) {
+                row.add(getSQLValue(column, entry));
+            }
+            rowsOfStatement.add(row);
+            if (rowsOfStatement.size() >= maxRowsPerStatement) {
+                statements.add(generateInsertRowsStatement(dbName, table, columns, rowsOfStatement));
+                rowsOfStatement.clear();
+            }
+        }
+        if (!rowsOfStatement.isEmpty()) {
+            statements.add(generateInsertRowsStatement(dbName, table, columns, rowsOfStatement));
+        }
+        return statements;
+    }
+
+    /**
+     * @see #generateInsertRowsStatements(String, DBConnection.Table, Collection, int)
+     * @see #DEFAULT_MAX_KEYS_PER_STATEMENT
+     * @since 0.16
+     */
+    @NotNull
+    public <E> List<String> generateInsertRowsStatements(
+            @NotNull String dbName, @NotNull DBConnection.Table<?, E> table, @NotNull Collection<? extends E> entries)
+            throws GenerationFailedException {
+        return generateInsertRowsStatements(dbName, table, entries, DEFAULT_MAX_KEYS_PER_STATEMENT);
+    }
+
+    @NotNull
+    private String generateInsertRowsStatement(
+            @NotNull String dbName, @NotNull DBConnection.Table<?, ?> table,
+            @NotNull List<? extends DBConnection.Column<?, ?>> columns, @NotNull List<List<String>> rows)
+            throws GenerationFailedException {
+        return populateTemplate(
+                insertRowsQueryTemplate, Map.of(
+                        "dbName", Objects.requireNonNull(dbName),
+                        "table", table,
+                        "columns", columns,
+                        "rows", rows
+                ));
+    }
+
     /**
      * @param columnsToSelect If empty all columns are selected ({@code SELECT *}).
      * @param conditions      List of conditions which is combined as conjunction.
@@ -233,16 +410,176 @@ public class QueryGenerator {
                                                       @NotNull Iterable<DBConnection.Column<E, ?>> columnsToSelect,
                                                       @NotNull Iterable<QueryCondition<?>> conditions)
             throws GenerationFailedException {
+        return generateSearchQueryStatement(
+                dbName, table, columnsToSelect, conditions, Collections.emptyList(), OptionalInt.empty());
+    }
+
+    /**
+     * @param columnsToSelect If empty all columns are selected ({@code SELECT *}).
+     * @param conditions      List of conditions which is combined as conjunction.
+     * @param orderBy         The columns to sort the results by in ascending order. The first column has the highest
+     *                        priority. If empty the order of the results is unspecified.
+     * @param limit           The maximum number of results to return. If empty all results are returned.
+     * @since 0.16
+     */
+    @NotNull
+    public <T, E> String generateSearchQueryStatement(@NotNull String dbName, @NotNull DBConnection.Table<T, E> table,
+                                                      @NotNull Iterable<DBConnection.Column<E, ?>> columnsToSelect,
+                                                      @NotNull Iterable<QueryCondition<?>> conditions,
+                                                      @NotNull Iterable<DBConnection.Column<E, ?>> orderBy,
+                                                      @NotNull OptionalInt limit)
+            throws GenerationFailedException {
+        // FIXME Check whether any involved columns are contained by the specified table
+        if (limit.isPresent() && limit.getAsInt() < 0) {
+            throw new IllegalArgumentException("The limit must not be negative");
+        }
+        Map<String, Object> dataModel = new HashMap<>(Map.of(
+                "dbName", Objects.requireNonNull(dbName),
+                "table", Objects.requireNonNull(table),
+                "columnsToSelect", Objects.requireNonNull(columnsToSelect),
+                "conditions", Objects.requireNonNull(conditions),
+                "orderBy", Objects.requireNonNull(orderBy)
+        ));
+        limit.ifPresent(l -> dataModel.put("limit", l));
+        return populateTemplate(searchQueryTemplate, dataModel);
+    }
+
+    /**
+     * Generates a query which lets the DBMS compute the given aggregations. Each row of the result contains the values
+     * of the grouped columns (in the given order) followed by the values of the aggregations (in the given order).
+     *
+     * @param aggregations The aggregations to compute. At least a single one is required.
+     * @param groupBy      The columns to group the entries by. If empty the aggregations are computed over all entries
+     *                     fulfilling the conditions and the result has exactly one row.
+     * @param conditions   List of conditions which is combined as conjunction.
+     * @see AggregationResult#parseFrom(List, List, List)
+     * @since 0.16
+     */
+    @NotNull
+    public <T, E> String generateAggregateQueryStatement(
+            @NotNull String dbName, @NotNull DBConnection.Table<T, E> table,
+            @NotNull List<? extends Aggregation<E, ?>> aggregations,
+            @NotNull List<? extends DBConnection.Column<E, ?>> groupBy, @NotNull Iterable<QueryCondition<?>> conditions)
+            throws GenerationFailedException {
+        if (aggregations.isEmpty()) {
+            throw new GenerationFailedException("At least a single aggregation is required");
+        }
         // FIXME Check whether any involved columns are contained by the specified table
         return populateTemplate(
-                searchQueryTemplate, Map.of(
+                aggregateQueryTemplate, Map.of(
                         "dbName", Objects.requireNonNull(dbName),
                         "table", Objects.requireNonNull(table),
-                        "columnsToSelect", Objects.requireNonNull(columnsToSelect),
+                        "aggregations", aggregations,
+                        "groupBy", Objects.requireNonNull(groupBy),
                         "conditions", Objects.requireNonNull(conditions)
                 ));
     }
 
+    /**
+     * Generates a condition which is fulfilled by all entries whose values in the given columns are greater than the
+     * given values. The comparison is lexicographical, i.e. the first column has the highest priority. This allows to
+     * continue a search which is sorted by the given columns after the given values (keyset pagination).
+     *
+     * @param keyColumns The columns to compare.
+     * @param lastKey    The values to compare with. They have to be already converted to SQL compatible
+     *                   {@link String}s using {@link ColumnParser#toString(Object)}.
+     * @since 0.16
+     */
+    @NotNull
+    public QueryCondition<?> generateKeysetCondition(@NotNull List<? extends DBConnection.Column<?, ?>> keyColumns,
+                                                     @NotNull List<String> lastKey) {
+        if (keyColumns.isEmpty()) {
+            throw new IllegalArgumentException("At least a single key column is required");
+        }
+        if (keyColumns.size() != lastKey.size()) {
+            throw new IllegalArgumentException("There has to be exactly one value for each key column");
+        }
+        String sqlExpression;
+        if (keyColumns.size() == 1) {
+            sqlExpression = String.format("%s > %s", quoteIdentifier(keyColumns.get(0).name()), lastKey.get(0));
+        } else {
+            sqlExpression = String.format("(%s) > (%s)",
+                    keyColumns.stream()
+                            .map(column -> quoteIdentifier(column.name()))
+                            .collect(Collectors.joining(", ")),
+                    String.join(", ", lastKey));
+        }
+        return new QueryCondition<>(sqlExpression);
+    }
+
+    /**
+     * Generates a condition which is fulfilled by all entries whose values in the given columns equal any of the given
+     * keys (using row values in case of multiple columns).
+     *
+     * @param keyColumns The columns to compare.
+     * @param keys       The values to compare with. They have to be already converted to SQL compatible
+     *                   {@link String}s using {@link ColumnParser#toString(Object)}. It must not be empty.
+     * @since 0.16
+     */
+    @NotNull
+    public QueryCondition<?> generateKeyInCondition(@NotNull List<? extends DBConnection.Column<?, ?>> keyColumns,
+                                                    @NotNull Collection<List<String>> keys) {
+        if (keyColumns.isEmpty()) {
+            throw new IllegalArgumentException("At least a single key column is required");
+        }
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("At least a single key is required");
+        }
+        if (keys.stream().anyMatch(key -> key.size() != keyColumns.size())) {
+            throw new IllegalArgumentException("There has to be exactly one value for each key column");
+        }
+        String sqlExpression;
+        if (keyColumns.size() == 1) {
+            sqlExpression = String.format("%s IN (%s)", quoteIdentifier(keyColumns.get(0).name()),
+                    keys.stream()
+                            .map(key -> key.get(0))
+                            .collect(Collectors.joining(", ")));
+        } else {
+            sqlExpression = String.format("(%s) IN (%s)",
+                    keyColumns.stream()
+                            .map(column -> quoteIdentifier(column.name()))
+                            .collect(Collectors.joining(", ")),
+                    keys.stream()
+                            .map(key -> "(" + String.join(", ", key) + ")")
+                            .collect(Collectors.joining(", ")));
+        }
+        return new QueryCondition<>(sqlExpression);
+    }
+
+    /**
+     * Generates a query returning the values of the given key columns followed by a version of each row which fulfills
+     * all given conditions. The version is either the value of the given version column or a checksum over the values
+     * of the given checksum columns computed by the DBMS. Hence a changed version indicates a changed row without
+     * transferring the row itself.
+     *
+     * @param versionColumn   The column holding the version of a row. If empty the checksum is used instead.
+     * @param checksumColumns The columns to compute the checksum of. Only used if there is no version column.
+     * @since 0.16
+     */
+    @NotNull
+    public <E> String generateQueryRowVersionsStatement(
+            @NotNull String dbName, @NotNull DBConnection.Table<?, E> table,
+            @NotNull List<? extends DBConnection.Column<E, ?>> keyColumns,
+            @NotNull Optional<? extends DBConnection.Column<E, ?>> versionColumn,
+            @NotNull List<? extends DBConnection.Column<E, ?>> checksumColumns,
+            @NotNull Iterable<QueryCondition<?>> conditions) throws GenerationFailedException {
+        if (keyColumns.isEmpty()) {
+            throw new GenerationFailedException("Cannot identify rows without any key columns");
+        }
+        if (versionColumn.isEmpty() && checksumColumns.isEmpty()) {
+            throw new GenerationFailedException("Cannot compute a checksum without any columns");
+        }
+        Map<String, Object> dataModel = new HashMap<>(Map.of(
+                "dbName", Objects.requireNonNull(dbName),
+                "table", Objects.requireNonNull(table),
+                "keyColumns", keyColumns,
+                "checksumColumns", checksumColumns,
+                "conditions", Objects.requireNonNull(conditions)
+        ));
+        versionColumn.ifPresent(column -> dataModel.put("versionColumn", column));
+        return populateTemplate(queryRowVersionsTemplate, dataModel);
+    }
+
     /**
      * @param changes It is assumed that the values of the given {@link Map} are already converted to SQL compatible
      *                {@link String}s using {@link ColumnParser#toString(Object)}.
@@ -252,16 +589,193 @@ public class QueryGenerator {
                                                    @NotNull Map<String, String> changes,
                                                    @NotNull Iterable<QueryCondition<?>> conditions)
             throws GenerationFailedException {
+        return generateUpdateQueryStatement(dbName, table, changes, conditions, List.of());
+    }
+
+    /**
+     * @param changes            It is assumed that the values of the given {@link Map} are already converted to SQL
+     *                           compatible {@link String}s using {@link ColumnParser#toString(Object)}.
+     * @param incrementedColumns The names of numeric columns whose values are incremented by one, e.g. for increasing
+     *                           the version of a row. They must not be contained by {@code changes}.
+     * @since 0.16
+     */
+    @NotNull
+    public <T> String generateUpdateQueryStatement(@NotNull String dbName, @NotNull DBConnection.Table<T, ?> table,
+                                                   @NotNull Map<String, String> changes,
+                                                   @NotNull Iterable<QueryCondition<?>> conditions,
+                                                   @NotNull Collection<String> incrementedColumns)
+            throws GenerationFailedException {
+        if (incrementedColumns.stream().anyMatch(changes::containsKey)) {
+            throw new GenerationFailedException("A column can not be changed and incremented at the same time");
+        }
         // FIXME Check whether any involved columns are contained by the specified table
         return populateTemplate(
                 updateQueryTemplate, Map.of(
                         "dbName", Objects.requireNonNull(dbName),
                         "table", Objects.requireNonNull(table),
                         "changes", Objects.requireNonNull(changes),
-                        "conditions", Objects.requireNonNull(conditions)
+                        "conditions", Objects.requireNonNull(conditions),
+                        "incrementedColumns", incrementedColumns
+                ));
+    }
+
+    /**
+     * Generates a query returning the number of rows affected by the previous statement within the same session.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    public String generateQueryAffectedRowsStatement() throws GenerationFailedException {
+        return populateTemplate(queryAffectedRowsTemplate, Map.of());
+    }
+
+    /**
+     * @param conditions List of conditions which is combined as conjunction. It must not be empty since deleting all
+     *                   entries of a table is most likely not intended.
+     * @since 0.16
+     */
+    @NotNull
+    public <T> String generateDeleteQueryStatement(@NotNull String dbName, @NotNull DBConnection.Table<T, ?> table,
+                                                   @NotNull Iterable<QueryCondition<?>> conditions)
+            throws GenerationFailedException {
+        if (!conditions.iterator().hasNext()) {
+            throw new GenerationFailedException("Refusing to generate a statement deleting all entries of a table");
+        }
+        // FIXME Check whether any involved columns are contained by the specified table
+        return populateTemplate(
+                deleteQueryTemplate, Map.of(
+                        "dbName", Objects.requireNonNull(dbName),
+                        "table", Objects.requireNonNull(table),
+                        "conditions", conditions
                 ));
     }
 
+    /**
+     * Generates a statement loading the rows of a tab separated file from the client into the given table. Each line of
+     * the file has to contain the values of the given columns in the given order with the escaping as described by
+     * {@link bayern.steinbrecher.dbConnector.scheme.ColumnParser#toBulkString(Object)}.
+     *
+     * @param fileName The name of the file to read on the client side. In case the content of the file is provided as
+     *                 stream by the connection the name serves only for identification.
+     * @since 0.16
+     */
+    @NotNull
+    public String generateLoadDataStatement(@NotNull String dbName, @NotNull DBConnection.Table<?, ?> table,
+                                            @NotNull List<? extends DBConnection.Column<?, ?>> columns,
+                                            @NotNull String fileName)
+            throws GenerationFailedException {
+        if (columns.isEmpty()) {
+            throw new GenerationFailedException("Cannot load data without any columns to load into");
+        }
+        if (!fileName.matches("[\\w.-]+")) {
+            throw new GenerationFailedException(
+                    String.format("The file name '%s' contains characters which are not supported", fileName));
+        }
+        return populateTemplate(
+                loadDataQueryTemplate, Map.of(
+                        "dbName", Objects.requireNonNull(dbName),
+                        "table", Objects.requireNonNull(table),
+                        "columns", columns,
+                        "fileName", fileName
+                ));
+    }
+
+    /**
+     * Generates statements deleting the given entries. The entries are identified by the values of their primary key
+     * columns. The keys of up to {@code maxKeysPerStatement} entries are combined into a single {@code IN} condition
+     * (using row values in case of composite primary keys).
+     *
+     * @param maxKeysPerStatement The maximum number of entries a single statement deletes.
+     * @return The statements which have to be executed for deleting all given entries. The list is empty if no entries
+     * are given.
+     * @since 0.16
+     */
+    @NotNull
+    public <E> List<String> generateDeleteByPrimaryKeyStatements(
+            @NotNull String dbName, @NotNull DBConnection.Table<?, E> table, @NotNull Collection<? extends E> entries,
+            int maxKeysPerStatement) throws GenerationFailedException {
+        if (maxKeysPerStatement < 1) {
+            throw new IllegalArgumentException("Each statement has to delete at least a single entry");
+        }
+
+        List<DBConnection.Column<E, ?>> keyColumns;
+        try {
+            keyColumns = table.getPrimaryKeyColumns();
+        } catch (QueryFailedException ex) {
+            throw new GenerationFailedException("Could not determine the primary key columns", ex);
+        }
+        if (keyColumns.isEmpty()) {
+            throw new GenerationFailedException(String.format(
+                    "Cannot identify entries of table '%s' since it has no primary key",
+                    table.getTableScheme().getTableName()));
+        }
+
+        // NOTE Use a set for skipping entries which are given multiple times
+        Set<List<String>> keys = new LinkedHashSet<>();
+        for (E entry : entries) {
+            List<String> key = new ArrayList<>(keyColumns.size());
+            for (DBConnection.Column<E, ?> column : keyColumns) {
+                key.add(getSQLValue(column, entry));
+            }
+            keys.add(key);
+        }
+
+        List<List<String>> keysOfStatement = new ArrayList<>(Math.min(keys.size(), maxKeysPerStatement));
+        List<String> statements = new ArrayList<>();
+        for (List<String> key : keys) {
+            keysOfStatement.add(key);
+            if (keysOfStatement.size() >= maxKeysPerStatement) {
+                statements.add(generateDeleteByKeysStatement(dbName, table, keyColumns, keysOfStatement));
+                keysOfStatement.clear();
+            }
+        }
+        if (!keysOfStatement.isEmpty()) {
+            statements.add(generateDeleteByKeysStatement(dbName, table, keyColumns, keysOfStatement));
+        }
+        return statements;
+    }
+
+    /**
+     * @see #generateDeleteByPrimaryKeyStatements(String, DBConnection.Table, Collection, int)
+     * @see #DEFAULT_MAX_KEYS_PER_STATEMENT
+     * @since 0.16
+     */
+    @NotNull
+    public <E> List<String> generateDeleteByPrimaryKeyStatements(
+            @NotNull String dbName, @NotNull DBConnection.Table<?, E> table, @NotNull Collection<? extends E> entries)
+            throws GenerationFailedException {
+        return generateDeleteByPrimaryKeyStatements(dbName, table, entries, DEFAULT_MAX_KEYS_PER_STATEMENT);
+    }
+
+    @NotNull
+    private String generateDeleteByKeysStatement(
+            @NotNull String dbName, @NotNull DBConnection.Table<?, ?> table,
+            @NotNull List<? extends DBConnection.Column<?, ?>> keyColumns, @NotNull List<List<String>> keys)
+            throws GenerationFailedException {
+        return populateTemplate(
+                deleteByKeysQueryTemplate, Map.of(
+                        "dbName", Objects.requireNonNull(dbName),
+                        "table", table,
+                        "keyColumns", keyColumns,
+                        "keys", keys
+                ));
+    }
+
+    /**
+     * Returns the value the given entry has in the given column converted to a SQL compatible {@link String}.
+     */
+    @NotNull
+    private static <E, C> String getSQLValue(@NotNull DBConnection.Column<E, C> column, @NotNull E entry)
+            throws GenerationFailedException {
+        Optional<ColumnPattern<C, E>> pattern = column.pattern();
+        if (pattern.isPresent()) {
+            return pattern.get().getSQLValue(entry, column.name());
+        }
+        throw new GenerationFailedException(
+                String.format("Cannot extract the value of column '%s' since there is no associated pattern",
+                        column.name()));
+    }
+
     private class QuoteIdentifierMethod implements TemplateMethodModelEx {
 
         @Override
@@ -5,16 +5,28 @@ import bayern.steinbrecher.dbConnector.scheme.ColumnParser;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * @author Stefan Huber
  * @since 0.7
  */
 public abstract class QueryOperator<T> {
+    /**
+     * The maximum number of values a single {@code IN} expression contains. Longer lists of values are split up.
+     *
+     * @since 0.16
+     */
+    public static final int MAX_VALUES_PER_IN = 1000;
+
     public static final QueryOperator<String> LIKE
             = new BinaryQueryOperator<>(ArgumentConverter.STRING_ARGUMENT_CONVERTER, "LIKE");
     /**
@@ -144,6 +156,68 @@ public abstract class QueryOperator<T> {
                 String.format("There is no SQL equality operator for %s defined", type.getName()));
     }
 
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private static <T> ArgumentConverter<T> getArgumentConverter(Class<T> type) {
+        if (String.class.isAssignableFrom(type)) {
+            return (ArgumentConverter<T>) ArgumentConverter.STRING_ARGUMENT_CONVERTER;
+        }
+        if (Boolean.class.isAssignableFrom(type)) {
+            return (ArgumentConverter<T>) ArgumentConverter.BOOLEAN_ARGUMENT_CONVERTER;
+        }
+        if (Integer.class.isAssignableFrom(type)) {
+            return (ArgumentConverter<T>) ArgumentConverter.INTEGER_ARGUMENT_CONVERTER;
+        }
+        if (Double.class.isAssignableFrom(type)) {
+            return (ArgumentConverter<T>) ArgumentConverter.DOUBLE_ARGUMENT_CONVERTER;
+        }
+        if (LocalDate.class.isAssignableFrom(type)) {
+            return (ArgumentConverter<T>) ArgumentConverter.LOCALDATE_ARGUMENT_CONVERTER;
+        }
+        throw new NoSuchElementException(
+                String.format("There is no argument converter for %s defined", type.getName()));
+    }
+
+    /**
+     * Returns an operator checking whether a value is contained in a list of values. The first argument of generated
+     * conditions is the value to check (e.g. a column). It is followed by either a single {@link Collection} of values
+     * or any number of separate values.
+     *
+     * @see InQueryOperator
+     * @since 0.16
+     */
+    @NotNull
+    public static <T> InQueryOperator<T> getInOperator(Class<T> type) {
+        return new InQueryOperator<>(getArgumentConverter(type));
+    }
+
+    /**
+     * Returns an operator checking whether a value lies between a lower and an upper bound (both inclusive). Generated
+     * conditions require three arguments: The value to check, the lower bound and the upper bound.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    public static <T> BetweenQueryOperator<T> getBetweenOperator(Class<T> type) {
+        return new BetweenQueryOperator<>(getArgumentConverter(type));
+    }
+
+    /**
+     * @since 0.16
+     */
+    @NotNull
+    public static <T> PostfixQueryOperator<T> getIsNullOperator(Class<T> type) {
+        return new PostfixQueryOperator<>(getArgumentConverter(type), "IS NULL");
+    }
+
+    /**
+     * @since 0.16
+     */
+    @NotNull
+    public static <T> PostfixQueryOperator<T> getIsNotNullOperator(Class<T> type) {
+        return new PostfixQueryOperator<>(getArgumentConverter(type), "IS NOT NULL");
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -259,4 +333,108 @@ public abstract class QueryOperator<T> {
             return new QueryCondition<>(String.format("%s %s", getOperatorSymbol(), argument));
         }
     }
+
+    /**
+     * @since 0.16
+     */
+    public static class PostfixQueryOperator<T> extends QueryOperator<T> {
+
+        protected PostfixQueryOperator(@NotNull ArgumentConverter<T> argumentConverter, @NotNull String operator) {
+            super(argumentConverter, operator);
+        }
+
+        @Override
+        @NotNull
+        public QueryCondition<T> generateCondition(
+                @NotNull QueryGenerator queryGenerator, @NotNull Object... arguments) {
+            if (arguments.length != 1) {
+                throw new IllegalArgumentException("Exactly one argument required");
+            }
+            String argument = getArgumentConverter()
+                    .convertArgument(queryGenerator, arguments[0]);
+            return new QueryCondition<>(String.format("%s %s", argument, getOperatorSymbol()));
+        }
+    }
+
+    /**
+     * @since 0.16
+     */
+    public static class BetweenQueryOperator<T> extends QueryOperator<T> {
+
+        protected BetweenQueryOperator(@NotNull ArgumentConverter<T> argumentConverter) {
+            super(argumentConverter, "BETWEEN");
+        }
+
+        @Override
+        @NotNull
+        public QueryCondition<T> generateCondition(
+                @NotNull QueryGenerator queryGenerator, @NotNull Object... arguments) {
+            if (arguments.length != 3) {
+                throw new IllegalArgumentException("Exactly three arguments required");
+            }
+            String argument = getArgumentConverter()
+                    .convertArgument(queryGenerator, arguments[0]);
+            String lowerBound = getArgumentConverter()
+                    .convertArgument(queryGenerator, arguments[1]);
+            String upperBound = getArgumentConverter()
+                    .convertArgument(queryGenerator, arguments[2]);
+            // FIXME Ensure escaping
+            return new QueryCondition<>(
+                    String.format("%s %s %s AND %s", argument, getOperatorSymbol(), lowerBound, upperBound));
+        }
+    }
+
+    /**
+     * Checks whether a value is contained in a list of values. Lists containing more than {@link #MAX_VALUES_PER_IN}
+     * values are split into multiple {@code IN} expressions which are combined as disjunction. An empty list of values
+     * results in a condition which is never fulfilled.
+     *
+     * @since 0.16
+     */
+    public static class InQueryOperator<T> extends QueryOperator<T> {
+
+        protected InQueryOperator(@NotNull ArgumentConverter<T> argumentConverter) {
+            super(argumentConverter, "IN");
+        }
+
+        @Override
+        @NotNull
+        public QueryCondition<T> generateCondition(
+                @NotNull QueryGenerator queryGenerator, @NotNull Object... arguments) {
+            if (arguments.length < 2) {
+                throw new IllegalArgumentException("At least two arguments required");
+            }
+            String argument = getArgumentConverter()
+                    .convertArgument(queryGenerator, arguments[0]);
+            List<?> values;
+            if (arguments.length == 2 && arguments[1] instanceof Collection<?> valueCollection) {
+                values = new ArrayList<>(valueCollection);
+            } else {
+                values = Arrays.asList(arguments)
+                        .subList(1, arguments.length);
+            }
+
+            QueryCondition<T> condition;
+            if (values.isEmpty()) {
+                condition = new QueryCondition<>("FALSE");
+            } else {
+                List<QueryCondition<T>> chunkConditions = new ArrayList<>();
+                for (int chunkStart = 0; chunkStart < values.size(); chunkStart += MAX_VALUES_PER_IN) {
+                    String chunk = values.subList(chunkStart, Math.min(chunkStart + MAX_VALUES_PER_IN, values.size()))
+                            .stream()
+                            .map(value -> getArgumentConverter().convertArgument(queryGenerator, value))
+                            .collect(Collectors.joining(", "));
+                    // FIXME Ensure escaping
+                    chunkConditions.add(new QueryCondition<>(
+                            String.format("%s %s (%s)", argument, getOperatorSymbol(), chunk)));
+                }
+                if (chunkConditions.size() == 1) {
+                    condition = chunkConditions.get(0);
+                } else {
+                    condition = new QueryCondition<>(QueryCondition.or(chunkConditions).getSqlExpression());
+                }
+            }
+            return condition;
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package bayern.steinbrecher.dbConnector.query;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Represents the plan a DBMS chose for executing a query as returned by {@code EXPLAIN}.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public final class QueryPlan {
+    /**
+     * The access type which denotes that all rows of a table are read.
+     */
+    public static final String FULL_SCAN_ACCESS_TYPE = "ALL";
+    private final List<Step> steps;
+
+    private QueryPlan(@NotNull List<Step> steps) {
+        this.steps = List.copyOf(steps);
+    }
+
+    private static int findColumn(@NotNull List<String> headings, @NotNull String heading)
+            throws QueryFailedException {
+        for (int i = 0; i < headings.size(); i++) {
+            if (headings.get(i).equalsIgnoreCase(heading)) {
+                return i;
+            }
+        }
+        throw new QueryFailedException(String.format("The query plan misses the column '%s'", heading));
+    }
+
+    @NotNull
+    private static Optional<String> getCell(@NotNull List<String> row, int index) {
+        return Optional.ofNullable(row.get(index))
+                .filter(cell -> !cell.isBlank());
+    }
+
+    /**
+     * Parses the result of an {@code EXPLAIN} statement in its tabular format.
+     *
+     * @param explainResult The result of the {@code EXPLAIN} statement including its headings.
+     * @since 0.16
+     */
+    @NotNull
+    public static QueryPlan parseFrom(@NotNull List<List<String>> explainResult) throws QueryFailedException {
+        if (explainResult.isEmpty()) {
+            throw new QueryFailedException("The query plan does not contain any headings");
+        }
+        List<String> headings = explainResult.get(0);
+        int tableIndex = findColumn(headings, "table");
+        int typeIndex = findColumn(headings, "type");
+        int keyIndex = findColumn(headings, "key");
+        int rowsIndex = findColumn(headings, "rows");
+        List<Step> steps = new ArrayList<>(explainResult.size() - 1);
+        for (List<String> row : explainResult.subList(1, explainResult.size())) { // Skip headings
+            long estimatedRows;
+            try {
+                estimatedRows = getCell(row, rowsIndex)
+                        .map(Long::parseLong)
+                        .orElse(0L);
+            } catch (NumberFormatException ex) {
+                throw new QueryFailedException("The query plan contains an invalid estimation of rows", ex);
+            }
+            steps.add(new Step(getCell(row, tableIndex), getCell(row, typeIndex).orElse(null),
+                    getCell(row, keyIndex), estimatedRows));
+        }
+        return new QueryPlan(steps);
+    }
+
+    /**
+     * Returns the steps of this plan in the order the DBMS listed them.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    @Unmodifiable
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Returns all steps which read all rows of a table and which are estimated to examine at least the given number of
+     * rows.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    @Unmodifiable
+    public List<Step> getFullScans(long minEstimatedRows) {
+        return steps.stream()
+                .filter(Step::isFullScan)
+                .filter(step -> step.estimatedRows() >= minEstimatedRows)
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return steps.toString();
+    }
+
+    /**
+     * Represents a single step of a {@link QueryPlan} which accesses a table.
+     *
+     * @param tableName     The name or alias of the accessed table. Empty for steps which do not access any table.
+     * @param accessType    The way the DBMS accesses the rows of the table, e.g. {@code ALL}, {@code ref} or
+     *                      {@code const}. {@code null} if the DBMS did not specify any.
+     * @param key           The index the DBMS chose for accessing the table.
+     * @param estimatedRows The number of rows the DBMS estimates to examine. 0 if the DBMS did not estimate any.
+     * @since 0.16
+     */
+    public record Step(
+            Optional<String> tableName,
+            @Nullable String accessType,
+            Optional<String> key,
+            long estimatedRows) {
+
+        /**
+         * Checks whether this step reads all rows of the table.
+         */
+        public boolean isFullScan() {
+            return FULL_SCAN_ACCESS_TYPE.equalsIgnoreCase(accessType());
+        }
+    }
+}
@@ -28,7 +28,8 @@ public abstract class SupportedDBMS {
                             LocalDate.class, new SQLTypeKeyword("DATE"),
                             String.class, new SQLTypeKeyword("VARCHAR", 255)
                     )),
-                    '`')
+                    '`'),
+            FingerprintStrategy.UPDATE_TIME
     ) {
     };
     public static final SupportedDBMS MY_SQL = new SupportedDBMS(
@@ -42,7 +43,9 @@ public abstract class SupportedDBMS {
                             LocalDate.class, new SQLTypeKeyword("DATE"),
                             String.class, new SQLTypeKeyword("VARCHAR", 255)
                     )),
-                    '`')
+                    '`'),
+            // NOTE MySQL 8 caches the time of the last modification of tables (see FingerprintStrategy#UPDATE_TIME)
+            FingerprintStrategy.CHECKSUM
     ) {
     };
     public static final List<SupportedDBMS> DBMSs = List.of(MARIADB, MY_SQL);
@@ -51,13 +54,15 @@ public abstract class SupportedDBMS {
     private final int defaultPort;
     private final String shellCommand;
     private final QueryGenerator queryGenerator;
+    private final FingerprintStrategy fingerprintStrategy;
 
     private SupportedDBMS(@NotNull String displayName, int defaultPort, String shellCommand,
-                          QueryGenerator queryGenerator) {
+                          QueryGenerator queryGenerator, @NotNull FingerprintStrategy fingerprintStrategy) {
         this.displayName = Objects.requireNonNull(displayName);
         this.defaultPort = defaultPort;
         this.shellCommand = shellCommand;
         this.queryGenerator = queryGenerator;
+        this.fingerprintStrategy = Objects.requireNonNull(fingerprintStrategy);
     }
 
     @Override
@@ -81,4 +86,15 @@ public abstract class SupportedDBMS {
     public QueryGenerator getQueryGenerator() {
         return queryGenerator;
     }
+
+    /**
+     * Returns the strategy for fingerprints of tables which detects any modification as cheap as possible with this
+     * DBMS.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    public FingerprintStrategy getFingerprintStrategy() {
+        return fingerprintStrategy;
+    }
 }
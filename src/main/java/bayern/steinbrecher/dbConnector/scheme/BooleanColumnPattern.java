@@ -0,0 +1,72 @@
+package bayern.steinbrecher.dbConnector.scheme;
+
+import bayern.steinbrecher.dbConnector.utility.ObjBooleanFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Represents a {@link SimpleColumnPattern} for {@code boolean} values which are parsed, set, read and converted to SQL
+ * without boxing them. Since the setter can not accept {@code null} a {@code NULL} value leaves the entry unchanged.
+ *
+ * @param <E> The type of object to set the content of this column to.
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class BooleanColumnPattern<E> extends SimpleColumnPattern<Boolean, E> {
+    private final ObjBooleanFunction<E, E> booleanSetter;
+    private final Predicate<E> booleanGetter;
+
+    /**
+     * @param realColumnName The exact name of the column to match.
+     * @param setter         The function used to set a parsed value to a given object. The setter should only return
+     *                       a new object of type {@link E} if the handed in one is immutable.
+     * @see SimpleColumnPattern#SimpleColumnPattern(String, ColumnParser, java.util.function.BiFunction,
+     * java.util.function.Function)
+     * @since 0.16
+     */
+    public BooleanColumnPattern(@NotNull String realColumnName, @NotNull ObjBooleanFunction<E, E> setter,
+                                @NotNull Predicate<E> getter) {
+        this(realColumnName, setter, getter, Optional.empty(), false, false);
+    }
+
+    /**
+     * @param realColumnName The exact name of the column to match.
+     * @param setter         The function used to set a parsed value to a given object. The setter should only return
+     *                       a new object of type {@link E} if the handed in one is immutable.
+     * @param defaultValue   The default value of this column. See
+     *                       {@link SimpleColumnPattern#SimpleColumnPattern(String, ColumnParser,
+     *                       java.util.function.BiFunction, java.util.function.Function, Optional, boolean, boolean)}.
+     * @since 0.16
+     */
+    public BooleanColumnPattern(@NotNull String realColumnName, @NotNull ObjBooleanFunction<E, E> setter,
+                                @NotNull Predicate<E> getter, @NotNull Optional<Optional<Boolean>> defaultValue,
+                                boolean isPrimaryKey, boolean allowNull) {
+        super(realColumnName, ColumnParser.PRIMITIVE_BOOLEAN_COLUMN_PARSER,
+                (entry, value) -> value == null ? entry : setter.apply(entry, value), getter::test, defaultValue,
+                isPrimaryKey, allowNull);
+        this.booleanSetter = Objects.requireNonNull(setter);
+        this.booleanGetter = Objects.requireNonNull(getter);
+    }
+
+    @Override
+    E combineMatched(@NotNull E toSet, @NotNull String columnName, @Nullable String value) {
+        return combineNonNullMatched(toSet, columnName, value, (entry, nonNullValue)
+                -> booleanSetter.apply(entry, ColumnParser.PRIMITIVE_BOOLEAN_COLUMN_PARSER.parseBoolean(nonNullValue)));
+    }
+
+    @Override
+    @NotNull
+    public String getSQLValue(E toGetFrom, @NotNull String columnName) {
+        return ColumnParser.PRIMITIVE_BOOLEAN_COLUMN_PARSER.toString(booleanGetter.test(toGetFrom));
+    }
+
+    @Override
+    @NotNull
+    public String getBulkValue(E toGetFrom, @NotNull String columnName) {
+        return ColumnParser.PRIMITIVE_BOOLEAN_COLUMN_PARSER.toBulkString(booleanGetter.test(toGetFrom));
+    }
+}
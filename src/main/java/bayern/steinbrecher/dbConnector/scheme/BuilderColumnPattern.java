@@ -0,0 +1,123 @@
+package bayern.steinbrecher.dbConnector.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Represents a {@link SimpleColumnPattern} which sets parsed values in place to a mutable builder of type {@link B}
+ * instead of an entry of type {@link E}. Values are still read from entries. Patterns of this type are meant to be
+ * used with a {@link BuilderTableScheme}. Since there is no setter for entries
+ * {@link #combine(Object, String, String)} creates a new builder, copies all values of the given entry to it using the
+ * patterns of the {@link BuilderTableScheme} this pattern belongs to, sets the new value and builds a new entry.
+ * NOTE A pattern belongs to the {@link BuilderTableScheme} which was created last with it.
+ *
+ * @param <C> The type of the contents this column holds.
+ * @param <E> The type of the entries to read the content of this column from.
+ * @param <B> The type of the builders to set the content of this column to.
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class BuilderColumnPattern<C, E, B> extends SimpleColumnPattern<C, E> {
+    private final BiConsumer<B, C> builderSetter;
+    /**
+     * Creates a new entry from a given entry after applying the given modification to a builder containing all values
+     * of the given entry. {@code null} as long as this pattern does not belong to any {@link BuilderTableScheme}.
+     */
+    private volatile BiFunction<E, Consumer<B>, E> rebuilder = null;
+
+    /**
+     * @param realColumnName The exact name of the column to match.
+     * @param parser         The parser to convert values from and to a SQL representation.
+     * @param setter         The function used to set a parsed value to a given builder.
+     * @since 0.16
+     */
+    public BuilderColumnPattern(@NotNull String realColumnName, @NotNull ColumnParser<C> parser,
+                                @NotNull BiConsumer<B, C> setter, @NotNull Function<E, C> getter) {
+        this(realColumnName, parser, setter, getter, Optional.empty(), false, false);
+    }
+
+    /**
+     * @param realColumnName The exact name of the column to match.
+     * @param parser         The parser to convert values from and to a SQL representation.
+     * @param setter         The function used to set a parsed value to a given builder.
+     * @param defaultValue   The default value of this column. See
+     *                       {@link SimpleColumnPattern#SimpleColumnPattern(String, ColumnParser,
+     *                       java.util.function.BiFunction, Function, Optional, boolean, boolean)}.
+     * @since 0.16
+     */
+    public BuilderColumnPattern(@NotNull String realColumnName, @NotNull ColumnParser<C> parser,
+                                @NotNull BiConsumer<B, C> setter, @NotNull Function<E, C> getter,
+                                @NotNull Optional<Optional<C>> defaultValue, boolean isPrimaryKey,
+                                boolean allowNull) {
+        // NOTE The setter of entries is never used since combineImpl(...) is overridden
+        super(realColumnName, parser, (entry, value) -> entry, getter, defaultValue, isPrimaryKey, allowNull);
+        this.builderSetter = Objects.requireNonNull(setter);
+    }
+
+    /**
+     * Associates this pattern with the {@link BuilderTableScheme} it belongs to.
+     *
+     * @param rebuilder Creates a new entry from a given entry after applying the given modification to a builder
+     *                  containing all values of the given entry.
+     */
+    void setRebuilder(@NotNull BiFunction<E, Consumer<B>, E> rebuilder) {
+        this.rebuilder = Objects.requireNonNull(rebuilder);
+    }
+
+    /**
+     * Builds a new entry which equals the given one except for the value of this column.
+     *
+     * @throws IllegalStateException Thrown only if this pattern does not belong to any {@link BuilderTableScheme}.
+     * @see #combine(Object, String, String)
+     */
+    @Override
+    @NotNull
+    protected E combineImpl(@NotNull E toSet, @NotNull String columnName, @Nullable C value) {
+        BiFunction<E, Consumer<B>, E> currentRebuilder = rebuilder;
+        if (currentRebuilder == null) {
+            throw new IllegalStateException(String.format(
+                    "The column %s can not create entries since it does not belong to any BuilderTableScheme",
+                    getRealColumnName()));
+        }
+        return currentRebuilder.apply(toSet, builder -> builderSetter.accept(builder, value));
+    }
+
+    /**
+     * Sets the value of this column of the given entry to the given builder.
+     */
+    void copyInto(@NotNull B toSet, @NotNull E toGetFrom) {
+        builderSetter.accept(toSet, getValue(toGetFrom, getRealColumnName()));
+    }
+
+    /**
+     * Parses the given value and sets it in place to the given builder.
+     *
+     * @param toSet      The builder to set the parsed value to.
+     * @param columnName The column name matching this pattern.
+     * @param value      The value to parse and to set.
+     * @see #combine(Object, String, String)
+     * @since 0.16
+     */
+    public void combineInto(@NotNull B toSet, @NotNull String columnName, @Nullable String value) {
+        if (matches(columnName)) {
+            combineIntoMatched(toSet, columnName, value);
+        } else {
+            throw new IllegalArgumentException("The given column name does not match this pattern.");
+        }
+    }
+
+    /**
+     * Same as {@link #combineInto(Object, String, String)} but skips checking whether the given column name matches
+     * this pattern.
+     */
+    void combineIntoMatched(@NotNull B toSet, @NotNull String columnName, @Nullable String value) {
+        builderSetter.accept(toSet, parseValue(columnName, value));
+    }
+}
@@ -0,0 +1,111 @@
+package bayern.steinbrecher.dbConnector.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Represents a {@link TableScheme} whose entries are constructed using a mutable builder. For each row a single builder
+ * is created, all values are set in place to it and finally the entry is built. In contrast to threading an entry
+ * through the setters of all columns no intermediate entries are created which makes this scheme suitable for
+ * immutable entries like records.
+ *
+ * @param <T> The type representing the whole table.
+ * @param <E> The type of an entry of the table.
+ * @param <B> The type of the builders which construct the entries.
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class BuilderTableScheme<T, E, B> extends TableScheme<T, E> {
+    private final Supplier<B> builderSupplier;
+    private final Function<B, E> build;
+    private final List<BuilderColumnPattern<?, E, B>> patterns;
+
+    /**
+     * @param builderSupplier Creates a new builder for each row.
+     * @param build           Builds the entry out of a builder after all values of a row were set to it.
+     * @since 0.16
+     */
+    public BuilderTableScheme(@NotNull String tableName,
+                              @NotNull Collection<BuilderColumnPattern<?, E, B>> requiredColumns,
+                              @NotNull Collection<BuilderColumnPattern<?, E, B>> optionalColumns,
+                              @NotNull Supplier<B> builderSupplier, @NotNull Function<B, E> build,
+                              @NotNull Function<Stream<E>, T> reducer) {
+        this(tableName, requiredColumns, optionalColumns, builderSupplier, build, reducer, List.of());
+    }
+
+    /**
+     * @param builderSupplier Creates a new builder for each row.
+     * @param build           Builds the entry out of a builder after all values of a row were set to it.
+     * @param indices         The indices to create additionally to the primary key. Only required columns can be
+     *                        indexed.
+     * @since 0.16
+     */
+    public BuilderTableScheme(@NotNull String tableName,
+                              @NotNull Collection<BuilderColumnPattern<?, E, B>> requiredColumns,
+                              @NotNull Collection<BuilderColumnPattern<?, E, B>> optionalColumns,
+                              @NotNull Supplier<B> builderSupplier, @NotNull Function<B, E> build,
+                              @NotNull Function<Stream<E>, T> reducer, @NotNull Collection<IndexScheme<E>> indices) {
+        this(tableName, requiredColumns, optionalColumns, builderSupplier, build, reducer, indices, null);
+    }
+
+    /**
+     * @param builderSupplier Creates a new builder for each row.
+     * @param build           Builds the entry out of a builder after all values of a row were set to it.
+     * @param indices         The indices to create additionally to the primary key. Only required columns can be
+     *                        indexed.
+     * @param versionColumn   See {@link TableScheme#TableScheme(String, Collection, Collection, Supplier, Function,
+     *                        Collection, SimpleColumnPattern)}.
+     * @since 0.16
+     */
+    public BuilderTableScheme(@NotNull String tableName,
+                              @NotNull Collection<BuilderColumnPattern<?, E, B>> requiredColumns,
+                              @NotNull Collection<BuilderColumnPattern<?, E, B>> optionalColumns,
+                              @NotNull Supplier<B> builderSupplier, @NotNull Function<B, E> build,
+                              @NotNull Function<Stream<E>, T> reducer, @NotNull Collection<IndexScheme<E>> indices,
+                              @Nullable BuilderColumnPattern<?, E, B> versionColumn) {
+        super(tableName, new ArrayList<>(requiredColumns), new ArrayList<>(optionalColumns),
+                () -> build.apply(builderSupplier.get()), reducer, indices, versionColumn);
+        this.builderSupplier = Objects.requireNonNull(builderSupplier);
+        this.build = Objects.requireNonNull(build);
+        this.patterns = Stream.concat(requiredColumns.stream(), optionalColumns.stream())
+                .toList();
+        patterns.forEach(pattern -> pattern.setRebuilder(this::rebuild));
+    }
+
+    /**
+     * Creates a new entry out of a builder which contains all values of the given entry and is modified by the given
+     * modification afterwards.
+     */
+    @NotNull
+    private E rebuild(@NotNull E entry, @NotNull Consumer<B> modification) {
+        B builder = builderSupplier.get();
+        for (BuilderColumnPattern<?, E, B> pattern : patterns) {
+            pattern.copyInto(builder, entry);
+        }
+        modification.accept(builder);
+        return build.apply(builder);
+    }
+
+    @Override
+    @NotNull
+    E parseRow(@NotNull List<ColumnSlot<E>> slots, @NotNull List<String> row) {
+        B builder = builderSupplier.get();
+        for (int i = 0; i < slots.size(); i++) {
+            ColumnSlot<E> slot = slots.get(i);
+            // NOTE The constructors ensure that all patterns of this scheme are builder patterns
+            @SuppressWarnings("unchecked")
+            BuilderColumnPattern<?, E, B> pattern = (BuilderColumnPattern<?, E, B>) slot.pattern();
+            pattern.combineIntoMatched(builder, slot.heading(), row.get(slot.index()));
+        }
+        return build.apply(builder);
+    }
+}
@@ -5,6 +5,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Contains singletons for converting objects from and to their SQL representation.
@@ -31,59 +33,37 @@ public abstract /* final */ class ColumnParser<T> {
              * may be quoted in double quotes which is only working if ANSI_QUOTES is NOT enabled (it is per default
              * disabled).
              */
-            return "'" + value + "'";
+            return quote(value);
         }
 
         @Override
         @NotNull
-        public Class<String> getType() {
-            return String.class;
-        }
-    };
-    public static final ColumnParser<Integer> INTEGER_COLUMN_PARSER = new ColumnParser<>() {
-        @Override
-        @Nullable
-        public Integer parse(@Nullable String value) throws ParseException {
-            Integer parsedValue = null;
-            if (value != null) {
-                try {
-                    parsedValue = Integer.parseInt(value);
-                } catch (NumberFormatException ex) {
-                    throw new ParseException(ex);
-                }
-            }
-            return parsedValue;
-        }
-
-        @Override
-        @NotNull
-        public Class<Integer> getType() {
-            return Integer.class;
-        }
-    };
-    public static final ColumnParser<Boolean> BOOLEAN_COLUMN_PARSER = new ColumnParser<>() {
-        @Override
-        @Nullable
-        public Boolean parse(@Nullable String value) {
-            Boolean parsedValue = null;
-            if (value != null) {
-                parsedValue = "1".equalsIgnoreCase(value);
-            }
-            return parsedValue;
-        }
-
-        @Override
-        @NotNull
-        protected String toStringImpl(@NotNull Boolean value) {
-            return value ? "TRUE" : "FALSE";
+        protected String toBulkStringImpl(@NotNull String value) {
+            return value;
         }
 
         @Override
         @NotNull
-        public Class<Boolean> getType() {
-            return Boolean.class;
+        public Class<String> getType() {
+            return String.class;
         }
     };
+    /**
+     * The same parser as {@link #INTEGER_COLUMN_PARSER} but exposing the methods handling {@code int} values without
+     * boxing them.
+     *
+     * @since 0.16
+     */
+    public static final IntColumnParser PRIMITIVE_INT_COLUMN_PARSER = new IntColumnParser();
+    public static final ColumnParser<Integer> INTEGER_COLUMN_PARSER = PRIMITIVE_INT_COLUMN_PARSER;
+    /**
+     * The same parser as {@link #BOOLEAN_COLUMN_PARSER} but exposing the methods handling {@code boolean} values
+     * without boxing them.
+     *
+     * @since 0.16
+     */
+    public static final BooleanColumnParser PRIMITIVE_BOOLEAN_COLUMN_PARSER = new BooleanColumnParser();
+    public static final ColumnParser<Boolean> BOOLEAN_COLUMN_PARSER = PRIMITIVE_BOOLEAN_COLUMN_PARSER;
     public static final ColumnParser<LocalDate> LOCALDATE_COLUMN_PARSER = new ColumnParser<>() {
         @Override
         @Nullable
@@ -102,41 +82,75 @@ public abstract /* final */ class ColumnParser<T> {
         @Override
         @NotNull
         protected String toStringImpl(@NotNull LocalDate value) {
-            return "'" + value + "'";
+            return quote(value.toString());
         }
 
         @Override
         @NotNull
-        public Class<LocalDate> getType() {
-            return LocalDate.class;
-        }
-    };
-    public static final ColumnParser<Double> DOUBLE_COLUMN_PARSER = new ColumnParser<>() {
-        @Override
-        @Nullable
-        public Double parse(@Nullable String value) throws ParseException {
-            Double parsedValue = null;
-            if (value != null) {
-                try {
-                    parsedValue = Double.parseDouble(value);
-                } catch (NumberFormatException ex) {
-                    throw new ParseException(ex);
-                }
-            }
-            return parsedValue;
+        protected String toBulkStringImpl(@NotNull LocalDate value) {
+            return value.toString();
         }
 
         @Override
         @NotNull
-        public Class<Double> getType() {
-            return Double.class;
+        public Class<LocalDate> getType() {
+            return LocalDate.class;
         }
     };
+    /**
+     * The same parser as {@link #DOUBLE_COLUMN_PARSER} but exposing the methods handling {@code double} values without
+     * boxing them.
+     *
+     * @since 0.16
+     */
+    public static final DoubleColumnParser PRIMITIVE_DOUBLE_COLUMN_PARSER = new DoubleColumnParser();
+    public static final ColumnParser<Double> DOUBLE_COLUMN_PARSER = PRIMITIVE_DOUBLE_COLUMN_PARSER;
+
+    private static final List<ColumnParser<?>> PARSERS = List.of(
+            STRING_COLUMN_PARSER, INTEGER_COLUMN_PARSER, BOOLEAN_COLUMN_PARSER, LOCALDATE_COLUMN_PARSER,
+            DOUBLE_COLUMN_PARSER
+    );
 
     private ColumnParser() {
         //Prohibit construction of additional parser outside this class
     }
 
+    /**
+     * Encloses the given value in single quotes and escapes backslashes and single quotes within it such that the
+     * result is a single string literal regardless of its content.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    private static String quote(@NotNull String value) {
+        StringBuilder quotedValue = new StringBuilder(value.length() + 2)
+                .append('\'');
+        for (char character : value.toCharArray()) {
+            switch (character) {
+                case '\\' -> quotedValue.append("\\\\");
+                case '\'' -> quotedValue.append("''");
+                default -> quotedValue.append(character);
+            }
+        }
+        return quotedValue.append('\'')
+                .toString();
+    }
+
+    /**
+     * Returns the parser which handles values of the given type.
+     *
+     * @return The parser for the given type. {@link Optional#empty()} if and only if there is no parser for the type.
+     * @since 0.16
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<ColumnParser<T>> getParser(@NotNull Class<T> type) {
+        return PARSERS.stream()
+                .filter(parser -> parser.getType() == type)
+                .map(parser -> (ColumnParser<T>) parser)
+                .findAny();
+    }
+
     /**
      * Converts the given {@link String} into the actual value type.
      * It is not guaranteed that this function is the reverse operation of {@link #toString(Object)} since the result of
@@ -184,6 +198,54 @@ public abstract /* final */ class ColumnParser<T> {
         return valueSql;
     }
 
+    /**
+     * Returns the unquoted {@link String} representation of the given value as expected by bulk loads. NOTE: For
+     * implementation it can be assumed that the value is not {@code null} and the result does not need to be escaped
+     * since this is handled by {@link #toBulkString(Object)}. The default implementation delegates to
+     * {@link #toStringImpl(Object)}.
+     *
+     * @param value The value to convert.
+     * @return The unquoted and unescaped {@link String} representation of the given value.
+     * @see #toBulkString(Object)
+     * @since 0.16
+     */
+    @NotNull
+    protected String toBulkStringImpl(@NotNull T value) {
+        return toStringImpl(value);
+    }
+
+    /**
+     * Converts the given value into a {@link String} representation suitable for a field of a tab separated file as
+     * read by {@code LOAD DATA INFILE} with its default field and line terminators. Returns {@code \N} if
+     * {@code value} is {@code null}. Backslashes, tabs, line breaks and NUL characters are escaped with a backslash.
+     *
+     * @param value The value to convert.
+     * @return A {@link String} representation of the given value suitable for a bulk load.
+     * @since 0.16
+     */
+    @NotNull
+    public final String toBulkString(@Nullable T value) {
+        String valueBulk;
+        if (value == null) {
+            valueBulk = "\\N";
+        } else {
+            String unescapedValue = toBulkStringImpl(value);
+            StringBuilder escapedValue = new StringBuilder(unescapedValue.length());
+            for (char character : unescapedValue.toCharArray()) {
+                switch (character) {
+                    case '\\' -> escapedValue.append("\\\\");
+                    case '\t' -> escapedValue.append("\\t");
+                    case '\n' -> escapedValue.append("\\n");
+                    case '\r' -> escapedValue.append("\\r");
+                    case '\0' -> escapedValue.append("\\0");
+                    default -> escapedValue.append(character);
+                }
+            }
+            valueBulk = escapedValue.toString();
+        }
+        return valueBulk;
+    }
+
     /**
      * Returns the generic type of the class. This method is needed since type ereasure takes place.
      *
@@ -191,4 +253,173 @@ public abstract /* final */ class ColumnParser<T> {
      */
     @NotNull
     public abstract Class<T> getType();
+
+    /**
+     * Converts {@code int} values without boxing them. The methods inherited from {@link ColumnParser} handle boxed
+     * values and {@code null}.
+     *
+     * @since 0.16
+     */
+    public static final class IntColumnParser extends ColumnParser<Integer> {
+        private IntColumnParser() {
+            //Prohibit construction of additional parser outside ColumnParser
+        }
+
+        /**
+         * Converts the given non-{@code null} {@link String} into an {@code int}.
+         *
+         * @see #parse(String)
+         */
+        public int parseInt(@NotNull String value) throws ParseException {
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException ex) {
+                throw new ParseException(ex);
+            }
+        }
+
+        @Override
+        @Nullable
+        public Integer parse(@Nullable String value) throws ParseException {
+            return value == null ? null : parseInt(value);
+        }
+
+        /**
+         * @see #toString(Object)
+         */
+        @NotNull
+        public String toString(int value) {
+            return String.valueOf(value);
+        }
+
+        /**
+         * @see #toBulkString(Object)
+         */
+        @NotNull
+        public String toBulkString(int value) {
+            // NOTE Integers never contain characters which have to be escaped
+            return String.valueOf(value);
+        }
+
+        @Override
+        @NotNull
+        public Class<Integer> getType() {
+            return Integer.class;
+        }
+    }
+
+    /**
+     * Converts {@code double} values without boxing them. The methods inherited from {@link ColumnParser} handle
+     * boxed values and {@code null}.
+     *
+     * @since 0.16
+     */
+    public static final class DoubleColumnParser extends ColumnParser<Double> {
+        private DoubleColumnParser() {
+            //Prohibit construction of additional parser outside ColumnParser
+        }
+
+        /**
+         * Converts the given non-{@code null} {@link String} into a {@code double}.
+         *
+         * @see #parse(String)
+         */
+        public double parseDouble(@NotNull String value) throws ParseException {
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException ex) {
+                throw new ParseException(ex);
+            }
+        }
+
+        @Override
+        @Nullable
+        public Double parse(@Nullable String value) throws ParseException {
+            return value == null ? null : parseDouble(value);
+        }
+
+        /**
+         * @see #toString(Object)
+         */
+        @NotNull
+        public String toString(double value) {
+            return String.valueOf(value);
+        }
+
+        /**
+         * @see #toBulkString(Object)
+         */
+        @NotNull
+        public String toBulkString(double value) {
+            // NOTE Doubles never contain characters which have to be escaped
+            return String.valueOf(value);
+        }
+
+        @Override
+        @NotNull
+        public Class<Double> getType() {
+            return Double.class;
+        }
+    }
+
+    /**
+     * Converts {@code boolean} values without boxing them. The methods inherited from {@link ColumnParser} handle
+     * boxed values and {@code null}.
+     *
+     * @since 0.16
+     */
+    public static final class BooleanColumnParser extends ColumnParser<Boolean> {
+        private BooleanColumnParser() {
+            //Prohibit construction of additional parser outside ColumnParser
+        }
+
+        /**
+         * Converts the given non-{@code null} {@link String} into a {@code boolean}.
+         *
+         * @see #parse(String)
+         */
+        public boolean parseBoolean(@NotNull String value) {
+            return "1".equalsIgnoreCase(value);
+        }
+
+        @Override
+        @Nullable
+        public Boolean parse(@Nullable String value) {
+            return value == null ? null : parseBoolean(value);
+        }
+
+        @Override
+        @NotNull
+        protected String toStringImpl(@NotNull Boolean value) {
+            return toString(value.booleanValue());
+        }
+
+        /**
+         * @see #toString(Object)
+         */
+        @NotNull
+        public String toString(boolean value) {
+            return value ? "TRUE" : "FALSE";
+        }
+
+        @Override
+        @NotNull
+        protected String toBulkStringImpl(@NotNull Boolean value) {
+            return toBulkString(value.booleanValue());
+        }
+
+        /**
+         * @see #toBulkString(Object)
+         */
+        @NotNull
+        public String toBulkString(boolean value) {
+            return value ? "1" : "0";
+        }
+
+        @Override
+        @NotNull
+        public Class<Boolean> getType() {
+            return Boolean.class;
+        }
+    }
 }
@@ -4,6 +4,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -60,6 +61,49 @@ public abstract class ColumnPattern<C, E> {
      */
     public abstract C getValue(E toGetFrom, @NotNull String columnName);
 
+    /**
+     * Returns a function which returns the value of a given object in the column having the given name. Callers which
+     * read the values of the same column from many objects should bind the column once. Subclasses may override this
+     * method in order to resolve the column only once instead of on each call of {@link #getValue(Object, String)}.
+     *
+     * @param columnName The name of a column matching this pattern.
+     * @see #getValue(Object, String)
+     * @since 0.16
+     */
+    @NotNull
+    public Function<E, C> bindGetter(@NotNull String columnName) {
+        Objects.requireNonNull(columnName);
+        return toGetFrom -> getValue(toGetFrom, columnName);
+    }
+
+    /**
+     * Returns the value of the given object in the column having the given name converted to its SQL representation.
+     * The default implementation converts the result of {@link #getValue(Object, String)} using the parser of this
+     * pattern. Subclasses may override this method in order to avoid intermediate objects, e.g. boxed primitives.
+     *
+     * @see ColumnParser#toString(Object)
+     * @since 0.16
+     */
+    @NotNull
+    public String getSQLValue(E toGetFrom, @NotNull String columnName) {
+        return getParser()
+                .toString(getValue(toGetFrom, columnName));
+    }
+
+    /**
+     * Returns the value of the given object in the column having the given name converted to its representation for
+     * bulk loads.
+     *
+     * @see #getSQLValue(Object, String)
+     * @see ColumnParser#toBulkString(Object)
+     * @since 0.16
+     */
+    @NotNull
+    public String getBulkValue(E toGetFrom, @NotNull String columnName) {
+        return getParser()
+                .toBulkString(getValue(toGetFrom, columnName));
+    }
+
     /**
      * Parses the given value and sets it to the object of type {@link E}.
      *
@@ -70,26 +114,77 @@ public abstract class ColumnPattern<C, E> {
      */
     public final E combine(@NotNull E toSet, @NotNull String columnName, @Nullable String value) {
         if (getColumnNamePattern().matcher(columnName).matches()) {
-            String valueToParse;
-            if (value == null || value.equalsIgnoreCase("null")) {
-                valueToParse = null;
-            } else {
-                valueToParse = value;
-            }
-            C parsedValue;
+            return combineMatched(toSet, columnName, value);
+        } else {
+            throw new IllegalArgumentException("The given column name does not match this pattern.");
+        }
+    }
+
+    /**
+     * Same as {@link #combine(Object, String, String)} but skips checking whether the given column name matches this
+     * pattern. This is meant for callers which already checked the column name, e.g. once for all rows of a query
+     * result.
+     *
+     * @see #combine(Object, String, String)
+     * @since 0.16
+     */
+    E combineMatched(@NotNull E toSet, @NotNull String columnName, @Nullable String value) {
+        return combineImpl(toSet, columnName, parseValue(columnName, value));
+    }
+
+    /**
+     * Parses the given value of the column having the given name. Values which can not be parsed are logged and
+     * skipped.
+     *
+     * @return The parsed value. {@code null} if the value represents {@code NULL} or could not be parsed.
+     * @since 0.16
+     */
+    @Nullable
+    C parseValue(@NotNull String columnName, @Nullable String value) {
+        String valueToParse;
+        if (value == null || value.equalsIgnoreCase("null")) {
+            valueToParse = null;
+        } else {
+            valueToParse = value;
+        }
+        C parsedValue;
+        try {
+            parsedValue = getParser()
+                    .parse(valueToParse);
+        } catch (ParseException ex) {
+            LOGGER.log(Level.WARNING,
+                    String.format("Could not parse value '%s' for column '%s'. The value is skipped.",
+                            valueToParse, columnName));
+            parsedValue = null;
+        }
+        return parsedValue;
+    }
+
+    /**
+     * Parses the given value of the column having the given name and sets it using the given setter unless it
+     * represents {@code NULL}. Values which can not be parsed are logged and skipped. This is meant for patterns which
+     * parse and set values without boxing them and therefore can not represent {@code NULL}.
+     *
+     * @return The entry returned by the setter. {@code toSet} if the value represents {@code NULL} or could not be
+     * parsed.
+     * @since 0.16
+     */
+    E combineNonNullMatched(@NotNull E toSet, @NotNull String columnName, @Nullable String value,
+                            @NotNull ParsingSetter<E> setter) {
+        E combined;
+        if (value == null || value.equalsIgnoreCase("null")) {
+            combined = toSet;
+        } else {
             try {
-                parsedValue = getParser()
-                        .parse(valueToParse);
+                combined = setter.parseAndSet(toSet, value);
             } catch (ParseException ex) {
                 LOGGER.log(Level.WARNING,
                         String.format("Could not parse value '%s' for column '%s'. The value is skipped.",
-                                valueToParse, columnName));
-                parsedValue = null;
+                                value, columnName));
+                combined = toSet;
             }
-            return combineImpl(toSet, columnName, parsedValue);
-        } else {
-            throw new IllegalArgumentException("The given column name does not match this pattern.");
         }
+        return combined;
     }
 
     /**
@@ -130,4 +225,15 @@ public abstract class ColumnPattern<C, E> {
         return getColumnNamePattern()
                 .pattern();
     }
+
+    /**
+     * Parses a non-{@code null} value and sets it to an entry.
+     *
+     * @param <E> The type of the entry to set the value to.
+     * @since 0.16
+     */
+    @FunctionalInterface
+    interface ParsingSetter<E> {
+        E parseAndSet(@NotNull E toSet, @NotNull String value) throws ParseException;
+    }
 }
@@ -0,0 +1,73 @@
+package bayern.steinbrecher.dbConnector.scheme;
+
+import bayern.steinbrecher.dbConnector.utility.ObjDoubleFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Represents a {@link SimpleColumnPattern} for {@code double} values which are parsed, set, read and converted to SQL
+ * without boxing them. Since the setter can not accept {@code null} a {@code NULL} value or a value which can not be
+ * parsed leaves the entry unchanged.
+ *
+ * @param <E> The type of object to set the content of this column to.
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class DoubleColumnPattern<E> extends SimpleColumnPattern<Double, E> {
+    private final ObjDoubleFunction<E, E> doubleSetter;
+    private final ToDoubleFunction<E> doubleGetter;
+
+    /**
+     * @param realColumnName The exact name of the column to match.
+     * @param setter         The function used to set a parsed value to a given object. The setter should only return
+     *                       a new object of type {@link E} if the handed in one is immutable.
+     * @see SimpleColumnPattern#SimpleColumnPattern(String, ColumnParser, java.util.function.BiFunction,
+     * java.util.function.Function)
+     * @since 0.16
+     */
+    public DoubleColumnPattern(@NotNull String realColumnName, @NotNull ObjDoubleFunction<E, E> setter,
+                               @NotNull ToDoubleFunction<E> getter) {
+        this(realColumnName, setter, getter, Optional.empty(), false, false);
+    }
+
+    /**
+     * @param realColumnName The exact name of the column to match.
+     * @param setter         The function used to set a parsed value to a given object. The setter should only return
+     *                       a new object of type {@link E} if the handed in one is immutable.
+     * @param defaultValue   The default value of this column. See
+     *                       {@link SimpleColumnPattern#SimpleColumnPattern(String, ColumnParser,
+     *                       java.util.function.BiFunction, java.util.function.Function, Optional, boolean, boolean)}.
+     * @since 0.16
+     */
+    public DoubleColumnPattern(@NotNull String realColumnName, @NotNull ObjDoubleFunction<E, E> setter,
+                               @NotNull ToDoubleFunction<E> getter, @NotNull Optional<Optional<Double>> defaultValue,
+                               boolean isPrimaryKey, boolean allowNull) {
+        super(realColumnName, ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER,
+                (entry, value) -> value == null ? entry : setter.apply(entry, value), getter::applyAsDouble,
+                defaultValue, isPrimaryKey, allowNull);
+        this.doubleSetter = Objects.requireNonNull(setter);
+        this.doubleGetter = Objects.requireNonNull(getter);
+    }
+
+    @Override
+    E combineMatched(@NotNull E toSet, @NotNull String columnName, @Nullable String value) {
+        return combineNonNullMatched(toSet, columnName, value, (entry, nonNullValue)
+                -> doubleSetter.apply(entry, ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER.parseDouble(nonNullValue)));
+    }
+
+    @Override
+    @NotNull
+    public String getSQLValue(E toGetFrom, @NotNull String columnName) {
+        return ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER.toString(doubleGetter.applyAsDouble(toGetFrom));
+    }
+
+    @Override
+    @NotNull
+    public String getBulkValue(E toGetFrom, @NotNull String columnName) {
+        return ColumnParser.PRIMITIVE_DOUBLE_COLUMN_PARSER.toBulkString(doubleGetter.applyAsDouble(toGetFrom));
+    }
+}
@@ -0,0 +1,60 @@
+package bayern.steinbrecher.dbConnector.scheme;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents an index over one or multiple columns of a {@link TableScheme}. In contrast to the primary key which is
+ * declared by the {@link SimpleColumnPattern}s themselves an index is only used for speeding up searches and
+ * optionally for ensuring uniqueness.
+ *
+ * @param <E> The type of the entries of the table.
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class IndexScheme<E> {
+    private final String name;
+    private final List<SimpleColumnPattern<?, E>> columns;
+    private final boolean unique;
+
+    /**
+     * @param name    The name of the index which has to be unique among all indices of the table.
+     * @param columns The columns to index. The order of the columns matters in case of composite indices.
+     * @param unique  {@code true} only if the combination of the values of the indexed columns has to be unique.
+     */
+    public IndexScheme(@NotNull String name, @NotNull List<SimpleColumnPattern<?, E>> columns, boolean unique) {
+        if (Objects.requireNonNull(name).isBlank()) {
+            throw new IllegalArgumentException("The name of an index must not be blank");
+        }
+        if (Objects.requireNonNull(columns).isEmpty()) {
+            throw new IllegalArgumentException("An index has to contain at least a single column");
+        }
+        this.name = name;
+        this.columns = List.copyOf(columns);
+        this.unique = unique;
+    }
+
+    @NotNull
+    public String getName() {
+        return name;
+    }
+
+    @NotNull
+    @Unmodifiable
+    public List<SimpleColumnPattern<?, E>> getColumns() {
+        return columns;
+    }
+
+    public boolean isUnique() {
+        return unique;
+    }
+
+    @Override
+    @NotNull
+    public String toString() {
+        return getName();
+    }
+}
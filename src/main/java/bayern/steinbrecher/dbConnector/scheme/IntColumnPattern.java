@@ -0,0 +1,73 @@
+package bayern.steinbrecher.dbConnector.scheme;
+
+import bayern.steinbrecher.dbConnector.utility.ObjIntFunction;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+/**
+ * Represents a {@link SimpleColumnPattern} for {@code int} values which are parsed, set, read and converted to SQL
+ * without boxing them. Since the setter can not accept {@code null} a {@code NULL} value or a value which can not be
+ * parsed leaves the entry unchanged.
+ *
+ * @param <E> The type of object to set the content of this column to.
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class IntColumnPattern<E> extends SimpleColumnPattern<Integer, E> {
+    private final ObjIntFunction<E, E> intSetter;
+    private final ToIntFunction<E> intGetter;
+
+    /**
+     * @param realColumnName The exact name of the column to match.
+     * @param setter         The function used to set a parsed value to a given object. The setter should only return
+     *                       a new object of type {@link E} if the handed in one is immutable.
+     * @see SimpleColumnPattern#SimpleColumnPattern(String, ColumnParser, java.util.function.BiFunction,
+     * java.util.function.Function)
+     * @since 0.16
+     */
+    public IntColumnPattern(@NotNull String realColumnName, @NotNull ObjIntFunction<E, E> setter,
+                            @NotNull ToIntFunction<E> getter) {
+        this(realColumnName, setter, getter, Optional.empty(), false, false);
+    }
+
+    /**
+     * @param realColumnName The exact name of the column to match.
+     * @param setter         The function used to set a parsed value to a given object. The setter should only return
+     *                       a new object of type {@link E} if the handed in one is immutable.
+     * @param defaultValue   The default value of this column. See
+     *                       {@link SimpleColumnPattern#SimpleColumnPattern(String, ColumnParser,
+     *                       java.util.function.BiFunction, java.util.function.Function, Optional, boolean, boolean)}.
+     * @since 0.16
+     */
+    public IntColumnPattern(@NotNull String realColumnName, @NotNull ObjIntFunction<E, E> setter,
+                            @NotNull ToIntFunction<E> getter, @NotNull Optional<Optional<Integer>> defaultValue,
+                            boolean isPrimaryKey, boolean allowNull) {
+        super(realColumnName, ColumnParser.PRIMITIVE_INT_COLUMN_PARSER,
+                (entry, value) -> value == null ? entry : setter.apply(entry, value), getter::applyAsInt, defaultValue,
+                isPrimaryKey, allowNull);
+        this.intSetter = Objects.requireNonNull(setter);
+        this.intGetter = Objects.requireNonNull(getter);
+    }
+
+    @Override
+    E combineMatched(@NotNull E toSet, @NotNull String columnName, @Nullable String value) {
+        return combineNonNullMatched(toSet, columnName, value, (entry, nonNullValue)
+                -> intSetter.apply(entry, ColumnParser.PRIMITIVE_INT_COLUMN_PARSER.parseInt(nonNullValue)));
+    }
+
+    @Override
+    @NotNull
+    public String getSQLValue(E toGetFrom, @NotNull String columnName) {
+        return ColumnParser.PRIMITIVE_INT_COLUMN_PARSER.toString(intGetter.applyAsInt(toGetFrom));
+    }
+
+    @Override
+    @NotNull
+    public String getBulkValue(E toGetFrom, @NotNull String columnName) {
+        return ColumnParser.PRIMITIVE_INT_COLUMN_PARSER.toBulkString(intGetter.applyAsInt(toGetFrom));
+    }
+}
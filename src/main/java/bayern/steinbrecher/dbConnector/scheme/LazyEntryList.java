@@ -0,0 +1,55 @@
+package bayern.steinbrecher.dbConnector.scheme;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Represents an unmodifiable view on the rows of a query result which parses rows to entries only when they are
+ * accessed. Created entries are cached softly up to a maximum number. Hence accessing the same index repeatedly may
+ * return different but equivalent entries in case the entry was evicted in between.
+ *
+ * @param <E> The type of the entries.
+ * @author Stefan Huber
+ * @since 0.16
+ */
+final class LazyEntryList<E> extends AbstractList<E> implements RandomAccess {
+    private final TableScheme<?, E> scheme;
+    private final List<List<String>> queryResult;
+    private final List<TableScheme.ColumnSlot<E>> slots;
+    private final Cache<Integer, E> entries;
+
+    /**
+     * @param queryResult      The result of a query where the first row contains the headings.
+     * @param slots            The slots describing which value of a row has to be combined by which pattern.
+     * @param maxCachedEntries The maximum number of created entries to keep.
+     */
+    LazyEntryList(@NotNull TableScheme<?, E> scheme, @NotNull List<List<String>> queryResult,
+                  @NotNull List<TableScheme.ColumnSlot<E>> slots, long maxCachedEntries) {
+        this.scheme = Objects.requireNonNull(scheme);
+        this.queryResult = Objects.requireNonNull(queryResult);
+        this.slots = Objects.requireNonNull(slots);
+        this.entries = CacheBuilder.newBuilder()
+                .maximumSize(maxCachedEntries)
+                .softValues()
+                .build();
+    }
+
+    @Override
+    @NotNull
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        return entries.asMap()
+                .computeIfAbsent(index, i -> scheme.parseRow(slots, queryResult.get(i + 1))); // Skip headings
+    }
+
+    @Override
+    public int size() {
+        return queryResult.size() - 1; // Skip headings
+    }
+}
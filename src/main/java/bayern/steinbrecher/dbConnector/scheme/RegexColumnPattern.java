@@ -4,7 +4,9 @@ import bayern.steinbrecher.dbConnector.utility.TriFunction;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -21,9 +23,15 @@ import java.util.function.Function;
  */
 public class RegexColumnPattern<C, E, K> extends ColumnPattern<C, E> {
 
+    /**
+     * The maximum number of column names whose keys are cached. Since the names of the columns of a table are limited
+     * this is only a safeguard against callers passing arbitrary column names.
+     */
+    private static final int MAX_CACHED_KEYS = 1024;
     private final TriFunction<E, K, C, E> setter;
     private final Function<String, K> keyExtractor;
     private final BiFunction<E, K, C> getter;
+    private final Map<String, K> cachedKeys = new ConcurrentHashMap<>();
 
     /**
      * Creates a column pattern possibly matching multiple column names. This constructor may be used if {@link E} is an
@@ -48,14 +56,109 @@ public class RegexColumnPattern<C, E, K> extends ColumnPattern<C, E> {
         this.getter = getter;
     }
 
+    /**
+     * Returns the key for the given column name. The key of each column name is extracted only once.
+     *
+     * @param columnName The column name matching this pattern to extract the key from.
+     * @since 0.16
+     */
+    public K getKey(@NotNull String columnName) {
+        K key = cachedKeys.get(columnName);
+        if (key == null) {
+            key = keyExtractor.apply(columnName);
+            if (key != null && cachedKeys.size() < MAX_CACHED_KEYS) {
+                cachedKeys.putIfAbsent(columnName, key);
+            }
+        }
+        return key;
+    }
+
     @Override
     public C getValue(E toGetFrom, @NotNull String columnName) {
-        return getter.apply(toGetFrom, keyExtractor.apply(columnName));
+        return getter.apply(toGetFrom, getKey(columnName));
+    }
+
+    /**
+     * Returns the getter of the {@link BoundColumn} for the given column name, i.e. the key of the column is resolved
+     * once.
+     *
+     * @see #bindTo(String)
+     * @since 0.16
+     */
+    @NotNull
+    @Override
+    public Function<E, C> bindGetter(@NotNull String columnName) {
+        return bindTo(columnName)::getValue;
     }
 
     @Override
     protected E combineImpl(@NotNull E toSet, @NotNull String columnName, @Nullable C value) {
-        K key = keyExtractor.apply(columnName);
-        return setter.accept(toSet, key, value);
+        return setter.accept(toSet, getKey(columnName), value);
+    }
+
+    /**
+     * Returns an accessor for the values of the column having the given name. Its key is resolved once so repeatedly
+     * accessing the values of the same column does not involve any key extraction or lookup.
+     *
+     * @param columnName The name of a column matching this pattern.
+     * @since 0.16
+     */
+    @NotNull
+    public BoundColumn<C, E, K> bindTo(@NotNull String columnName) {
+        if (!matches(columnName)) {
+            throw new IllegalArgumentException("The given column name does not match this pattern.");
+        }
+        return new BoundColumn<>(this, columnName, getKey(columnName));
+    }
+
+    /**
+     * Represents a {@link RegexColumnPattern} bound to a specific column name matching the pattern.
+     *
+     * @param <C> The type of the column content.
+     * @param <E> The type of object to set the content of this column to.
+     * @param <K> The type of the key to distinguish the columns matching this pattern.
+     * @since 0.16
+     */
+    public static final class BoundColumn<C, E, K> {
+        private final RegexColumnPattern<C, E, K> pattern;
+        private final String columnName;
+        private final K key;
+
+        private BoundColumn(@NotNull RegexColumnPattern<C, E, K> pattern, @NotNull String columnName, K key) {
+            this.pattern = pattern;
+            this.columnName = columnName;
+            this.key = key;
+        }
+
+        @NotNull
+        public RegexColumnPattern<C, E, K> getPattern() {
+            return pattern;
+        }
+
+        @NotNull
+        public String getColumnName() {
+            return columnName;
+        }
+
+        public K getKey() {
+            return key;
+        }
+
+        /**
+         * @see RegexColumnPattern#getValue(Object, String)
+         */
+        public C getValue(E toGetFrom) {
+            return pattern.getter.apply(toGetFrom, key);
+        }
+
+        /**
+         * Sets the given already parsed value to the given object.
+         *
+         * @return The resulting object of type {@link E}.
+         * @see RegexColumnPattern#combine(Object, String, String)
+         */
+        public E setValue(@NotNull E toSet, @Nullable C value) {
+            return pattern.setter.accept(toSet, key, value);
+        }
     }
 }
@@ -1,19 +1,21 @@
 package bayern.steinbrecher.dbConnector.scheme;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -26,20 +28,67 @@ import java.util.stream.Stream;
  */
 public class TableScheme<T, E> {
     private static final Logger LOGGER = Logger.getLogger(TableScheme.class.getName());
+    private static final int MAX_CACHED_ROW_MAPPINGS = 16;
     private final String tableName;
     private final Collection<SimpleColumnPattern<?, E>> requiredColumns;
     private final Collection<ColumnPattern<?, E>> optionalColumns;
     private final Supplier<E> emptyEntrySupplier;
     private final Function<Stream<E>, T> reducer;
+    private final Collection<IndexScheme<E>> indices;
+    private final SimpleColumnPattern<?, E> versionColumn;
+    /**
+     * Caches the row mappings for the headings of previous query results since the same table usually returns the same
+     * headings for each query.
+     */
+    private final Map<List<String>, List<ColumnSlot<E>>> cachedRowMappings = new ConcurrentHashMap<>();
 
     public TableScheme(@NotNull String tableName, @NotNull Collection<SimpleColumnPattern<?, E>> requiredColumns,
                        @NotNull Collection<ColumnPattern<?, E>> optionalColumns,
                        @NotNull Supplier<E> emptyEntrySupplier, @NotNull Function<Stream<E>, T> reducer) {
+        this(tableName, requiredColumns, optionalColumns, emptyEntrySupplier, reducer, List.of());
+    }
+
+    /**
+     * @param indices The indices to create additionally to the primary key. Only required columns can be indexed.
+     * @since 0.16
+     */
+    public TableScheme(@NotNull String tableName, @NotNull Collection<SimpleColumnPattern<?, E>> requiredColumns,
+                       @NotNull Collection<ColumnPattern<?, E>> optionalColumns,
+                       @NotNull Supplier<E> emptyEntrySupplier, @NotNull Function<Stream<E>, T> reducer,
+                       @NotNull Collection<IndexScheme<E>> indices) {
+        this(tableName, requiredColumns, optionalColumns, emptyEntrySupplier, reducer, indices, null);
+    }
+
+    /**
+     * @param indices       The indices to create additionally to the primary key. Only required columns can be indexed.
+     * @param versionColumn A required column whose value changes whenever any other value of the same row changes,
+     *                      e.g. a revision counter or a timestamp of the last update. {@code null} if the table has no
+     *                      such column.
+     * @since 0.16
+     */
+    public TableScheme(@NotNull String tableName, @NotNull Collection<SimpleColumnPattern<?, E>> requiredColumns,
+                       @NotNull Collection<ColumnPattern<?, E>> optionalColumns,
+                       @NotNull Supplier<E> emptyEntrySupplier, @NotNull Function<Stream<E>, T> reducer,
+                       @NotNull Collection<IndexScheme<E>> indices, @Nullable SimpleColumnPattern<?, E> versionColumn) {
         this.tableName = Objects.requireNonNull(tableName);
         this.requiredColumns = Objects.requireNonNull(requiredColumns);
         this.optionalColumns = Objects.requireNonNull(optionalColumns);
         this.emptyEntrySupplier = Objects.requireNonNull(emptyEntrySupplier);
         this.reducer = Objects.requireNonNull(reducer);
+        this.indices = Objects.requireNonNull(indices);
+        this.versionColumn = versionColumn;
+
+        for (IndexScheme<E> index : indices) {
+            if (!requiredColumns.containsAll(index.getColumns())) {
+                throw new IllegalArgumentException(String.format(
+                        "The index '%s' of table '%s' refers to columns which are not required", index.getName(),
+                        tableName));
+            }
+        }
+        if (versionColumn != null && !requiredColumns.contains(versionColumn)) {
+            throw new IllegalArgumentException(String.format(
+                    "The version column of table '%s' is not required", tableName));
+        }
     }
 
     @NotNull
@@ -48,58 +97,147 @@ public class TableScheme<T, E> {
     }
 
     /**
-     * @since 0.1
+     * Associates each column of the given headings with the pattern matching it. The resulting slots are ordered such
+     * that applying them in order to an entry yields the same result as combining the values pattern by pattern.
+     *
+     * @param headings The headings of a query result.
+     * @return The slots describing which value of a row has to be combined by which pattern.
      */
     @NotNull
-    public T parseFrom(@NotNull List<List<String>> queryResult) {
-        List<String> headings = queryResult.get(0);
-        Map<ColumnPattern<?, E>, Collection<Integer>> patternToColumnMapping = streamAllColumns()
-                .map(pattern -> {
-                    Collection<Integer> targetIndices = new ArrayList<>();
+    private List<ColumnSlot<E>> compileRowMapping(@NotNull List<String> headings) {
+        List<ColumnSlot<E>> slots = new ArrayList<>();
+        Set<Integer> mappedTargetIndices = new HashSet<>();
+        streamAllColumns()
+                .forEach(pattern -> {
+                    int numMatches = 0;
                     for (int i = 0; i < headings.size(); i++) {
                         if (pattern.matches(headings.get(i))) {
-                            targetIndices.add(i);
+                            //Check duplicate target column indices
+                            if (!mappedTargetIndices.add(i)) {
+                                throw new IllegalStateException(
+                                        "Table " + getTableName() + " contains intersecting column patterns.");
+                            }
+                            slots.add(new ColumnSlot<>(i, pattern, headings.get(i)));
+                            numMatches++;
                         }
                     }
-                    return Map.entry(pattern, targetIndices);
-                })
-                .filter(entry -> !entry.getValue().isEmpty())
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+                    if (pattern instanceof SimpleColumnPattern<?, ?>
+                            && numMatches > 1) { //NOPMD - Check whether association is ambiguous.
+                        LOGGER.log(Level.WARNING, "The simple column {0} is associated to more than "
+                                        + "1 column name matches. Only the last match is applied.",
+                                pattern.getColumnNamePattern().pattern());
+                    }
+                });
+        return List.copyOf(slots);
+    }
 
-        //Check duplicate target column indices
-        Set<Integer> mappedTargetIndices = new HashSet<>();
-        if (!patternToColumnMapping.values()
+    /**
+     * Returns the row mapping for the given headings. Row mappings are compiled only once per distinct list of
+     * headings.
+     *
+     * @see #compileRowMapping(List)
+     */
+    @NotNull
+    private List<ColumnSlot<E>> getRowMapping(@NotNull List<String> headings) {
+        List<ColumnSlot<E>> rowMapping = cachedRowMappings.get(headings);
+        if (rowMapping == null) {
+            rowMapping = compileRowMapping(headings);
+            if (cachedRowMappings.size() >= MAX_CACHED_ROW_MAPPINGS) {
+                // NOTE Differing headings are rare so there is no need for a more sophisticated eviction
+                cachedRowMappings.clear();
+            }
+            cachedRowMappings.put(List.copyOf(headings), rowMapping);
+        }
+        return rowMapping;
+    }
+
+    /**
+     * Parses each row of the given query result to an entry. The rows are parsed lazily, i.e. only when the returned
+     * {@link Stream} is consumed. The columns of the headings are matched against the patterns of this scheme only once
+     * for the whole query result instead of once per cell.
+     *
+     * @param queryResult The result of a query where the first row contains the headings.
+     * @return The entries in the same order as the rows of the query result.
+     * @since 0.16
+     */
+    @NotNull
+    public Stream<E> parseEntriesFrom(@NotNull List<List<String>> queryResult) {
+        List<ColumnSlot<E>> slots = getRowMapping(queryResult.get(0));
+        return queryResult.subList(1, queryResult.size()) //Skip headings
                 .stream()
-                .flatMap(Collection::stream)
-                .allMatch(mappedTargetIndices::add)) {
-            throw new IllegalStateException("Table " + getTableName() + " contains intersecting column patterns.");
+                .map(row -> parseRow(slots, row));
+    }
+
+    /**
+     * Returns a view on the rows of the given query result which parses each row to an entry only when it is accessed.
+     * In contrast to {@link #parseFrom(List)} the costs for parsing are only paid for the accessed entries. The
+     * returned list is unmodifiable and keeps the query result alive.
+     *
+     * @param queryResult      The result of a query where the first row contains the headings.
+     * @param maxCachedEntries The maximum number of created entries to keep. Evicted entries are created again when
+     *                         they are accessed again. Entries may additionally be evicted in case memory is low.
+     * @return The entries in the same order as the rows of the query result.
+     * @since 0.16
+     */
+    @NotNull
+    public List<E> parseEntriesLazilyFrom(@NotNull List<List<String>> queryResult, long maxCachedEntries) {
+        return new LazyEntryList<>(this, queryResult, getRowMapping(queryResult.get(0)), maxCachedEntries);
+    }
+
+    /**
+     * Parses a single row of a query result to an entry.
+     *
+     * @param slots The slots describing which value of the row has to be combined by which pattern.
+     * @param row   The values of the row.
+     * @since 0.16
+     */
+    @NotNull
+    E parseRow(@NotNull List<ColumnSlot<E>> slots, @NotNull List<String> row) {
+        E rowRepresentation = emptyEntrySupplier.get();
+        for (int i = 0; i < slots.size(); i++) {
+            ColumnSlot<E> slot = slots.get(i);
+            rowRepresentation = slot.pattern()
+                    .combineMatched(rowRepresentation, slot.heading(), row.get(slot.index()));
         }
+        return rowRepresentation;
+    }
 
-        return reducer.apply(queryResult.stream()
-                .skip(1) //Skip headings
-                .map(row -> {
-                    E rowRepresentation = emptyEntrySupplier.get();
-                    for (Map.Entry<ColumnPattern<?, E>, Collection<Integer>> columnMapping
-                            : patternToColumnMapping.entrySet()) {
-                        ColumnPattern<?, E> pattern = columnMapping.getKey();
-                        Collection<Integer> targetIndices = columnMapping.getValue();
-                        if (targetIndices.size() <= 0) {
-                            LOGGER.log(Level.WARNING,
-                                    "Pattern {0} is registered for {1} but there is no matching column",
-                                    new Object[]{pattern.getColumnNamePattern().pattern(), getTableName()});
-                        }
-                        if (pattern instanceof SimpleColumnPattern<?, ?>
-                                && targetIndices.size() > 1) { //NOPMD - Check whether association is ambiguous.
-                            LOGGER.log(Level.WARNING, "The simple column {0} is associated to more than "
-                                            + "1 column name matches. Only the last match is applied.",
-                                    pattern.getColumnNamePattern().pattern());
-                        }
-                        for (Integer index : targetIndices) {
-                            rowRepresentation = pattern.combine(rowRepresentation, headings.get(index), row.get(index));
-                        }
-                    }
-                    return rowRepresentation;
-                }));
+    /**
+     * Parses the given query result sequentially and reduces its entries to the representation of the whole table.
+     *
+     * @see #parseFrom(List, int)
+     * @since 0.1
+     */
+    @NotNull
+    public T parseFrom(@NotNull List<List<String>> queryResult) {
+        return parseFrom(queryResult, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Parses the given query result and reduces its entries to the representation of the whole table. If the query
+     * result contains at least as many rows as the given threshold the rows are parsed in parallel on the common
+     * {@link java.util.concurrent.ForkJoinPool}. In any case the reducer gets a sequential stream of the entries in the
+     * same order as the rows of the query result. Parsing in parallel pays off for results with many thousands of rows
+     * only. NOTE When parsing in parallel the supplier of empty entries and the setters of all column patterns are
+     * called concurrently and have to be thread safe as long as they affect different entries.
+     *
+     * @param parallelParsingThreshold The minimum number of rows the query result needs for being parsed in parallel.
+     *                                 {@link Integer#MAX_VALUE} disables parsing in parallel.
+     * @since 0.16
+     */
+    @NotNull
+    public T parseFrom(@NotNull List<List<String>> queryResult, int parallelParsingThreshold) {
+        if (parallelParsingThreshold < 1) {
+            throw new IllegalArgumentException("The threshold has to be positive");
+        }
+        Stream<E> entries = parseEntriesFrom(queryResult);
+        if (queryResult.size() - 1 >= parallelParsingThreshold) { // Skip headings
+            // NOTE Only the parsing happens in parallel since the reducer may not be suitable for parallel streams
+            entries = entries.parallel()
+                    .toList()
+                    .stream();
+        }
+        return reducer.apply(entries);
     }
 
     /**
@@ -126,6 +264,24 @@ public class TableScheme<T, E> {
         return optionalColumns;
     }
 
+    /**
+     * @since 0.16
+     */
+    @NotNull
+    public Collection<IndexScheme<E>> getIndices() {
+        return indices;
+    }
+
+    /**
+     * Returns the column whose value changes whenever any other value of the same row changes.
+     *
+     * @since 0.16
+     */
+    @NotNull
+    public Optional<SimpleColumnPattern<?, E>> getVersionColumn() {
+        return Optional.ofNullable(versionColumn);
+    }
+
     /**
      * @since 0.14
      */
@@ -133,4 +289,14 @@ public class TableScheme<T, E> {
     public String toString() {
         return getTableName();
     }
+
+    /**
+     * Describes that the value at {@code index} of each row belongs to the column {@code heading} which is matched by
+     * {@code pattern}.
+     */
+    record ColumnSlot<E>(
+            int index,
+            ColumnPattern<?, E> pattern,
+            String heading) {
+    }
 }
@@ -1,136 +1,108 @@
 package bayern.steinbrecher.dbConnector.utility;
 
 import bayern.steinbrecher.dbConnector.DBConnection;
-import bayern.steinbrecher.dbConnector.query.GenerationFailedException;
-import bayern.steinbrecher.dbConnector.query.QueryCondition;
 import bayern.steinbrecher.dbConnector.query.QueryFailedException;
-import bayern.steinbrecher.dbConnector.query.QueryGenerator;
-import bayern.steinbrecher.dbConnector.query.QueryOperator;
-import bayern.steinbrecher.dbConnector.scheme.ColumnPattern;
 import bayern.steinbrecher.dbConnector.scheme.SimpleColumnPattern;
 import bayern.steinbrecher.dbConnector.scheme.TableScheme;
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.util.Pair;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
+ * Writes added, removed and changed entries of an {@link ObservableList} to the table of a database. The changes are
+ * collected and written on a background thread by a {@link WriteBehindQueue}. If the scheme declares a version column
+ * concurrent modifications of the same rows are detected and reported as {@link SyncConflictException}.
+ *
+ * @param flushInterval  The maximum time a change stays pending before it is written.
+ * @param maxBatchSize   The number of pending changes which triggers writing them immediately.
+ * @param failureHandler Called with the affected entries whenever writing changes fails. It is called on the thread
+ *                       which detected the failure.
  * @author Stefan Huber
  * @since 0.16
  */
 public record DBSynchronizer<E>(
         TableScheme<?, E> scheme,
-        DBConnection connection
+        DBConnection connection,
+        Duration flushInterval,
+        int maxBatchSize,
+        BiConsumer<Collection<E>, Exception> failureHandler
 ) {
     private static final Logger LOGGER = Logger.getLogger(DBSynchronizer.class.getName());
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(500);
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    public DBSynchronizer {
+        Objects.requireNonNull(scheme);
+        Objects.requireNonNull(connection);
+        Objects.requireNonNull(failureHandler);
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("The flush interval must be positive");
+        }
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("A batch has to contain at least a single change");
+        }
+    }
 
     /**
-     * Generate a set of {@link QueryCondition}s that identify the given entry within the set of given columns.
+     * Creates a synchronizer using {@link #DEFAULT_FLUSH_INTERVAL} and {@link #DEFAULT_MAX_BATCH_SIZE} which only logs
+     * failures.
      */
-    @NotNull
-    private <C> Collection<QueryCondition<?>> getPrimaryKeyConditions(
-            @NotNull Set<? extends DBConnection.Column<E, ?>> columns, @NotNull E entry) {
-        QueryGenerator queryGenerator = connection().getDbms().getQueryGenerator();
-        Collection<QueryCondition<?>> primaryKeyConditions = new ArrayList<>();
-        for (DBConnection.Column<E, ?> column : columns) {
-            @SuppressWarnings("unchecked")
-            var typedColumn = (DBConnection.Column<E, C>) column;
-            typedColumn.pattern().ifPresent(pattern -> {
-                if (pattern instanceof SimpleColumnPattern<C, E> scp && scp.isPrimaryKey()) {
-                    QueryOperator<C> equalityOperator
-                            = QueryOperator.getEqualityOperator(scp.getParser().getType());
-                    C oldCellValue = scp.getValue(entry, scp.getRealColumnName());
-                    QueryCondition<C> condition
-                            = equalityOperator.generateCondition(queryGenerator, column, oldCellValue);
-                    primaryKeyConditions.add(condition);
-                }
-            });
-        }
-        return primaryKeyConditions;
+    public DBSynchronizer(TableScheme<?, E> scheme, DBConnection connection) {
+        this(scheme, connection, DEFAULT_FLUSH_INTERVAL, DEFAULT_MAX_BATCH_SIZE,
+                (entries, ex) -> LOGGER.log(Level.SEVERE,
+                        String.format("Failed to synchronize changes for %s to %s",
+                                entries, connection.getDatabaseName()), ex));
     }
 
     /**
-     * Reflect any changes made to the given entries via the initially given connection to the DB.
+     * Reflect any changes made to the given entries via the initially given connection to the DB. The changes are
+     * written asynchronously.
      * NOTE 2022-02-22: Changes in the database are NOT reflected to the given entries.
+     *
+     * @return The queue collecting the changes. Closing it stops the synchronization.
+     * @throws InvalidSyncTargetException Thrown if the table does not exist, has no primary key or if the version
+     *                                    column of the scheme is no integer column.
      */
-    public <C> void synchronize(@NotNull ObservableList<E> entries) throws InvalidSyncTargetException {
+    @NotNull
+    public WriteBehindQueue<E> synchronize(@NotNull ObservableList<E> entries) throws InvalidSyncTargetException {
         DBConnection.Table<?, E> table;
-        Set<? extends DBConnection.Column<E, ?>> columns;
+        List<DBConnection.Column<E, ?>> primaryKeyColumns;
+        Optional<DBConnection.Column<E, ?>> versionColumn;
         try {
             table = connection().getTable(scheme()).orElseThrow(() -> new InvalidSyncTargetException(
                     "Could not find any table matching the given scheme using the given connection"));
-            columns = table.getColumns();
+            primaryKeyColumns = table.getPrimaryKeyColumns();
+            Optional<SimpleColumnPattern<?, E>> versionPattern = scheme().getVersionColumn();
+            versionColumn = table.getMappedColumns()
+                    .stream()
+                    .filter(column -> column.pattern().equals(versionPattern))
+                    .findAny();
+            if (versionPattern.isPresent() && versionColumn.isEmpty()) {
+                throw new InvalidSyncTargetException("The table misses the version column of the given scheme");
+            }
         } catch (QueryFailedException ex) {
             throw new InvalidSyncTargetException(ex);
         }
 
-        if (scheme().getRequiredColumns().stream().noneMatch(SimpleColumnPattern::isPrimaryKey)) {
+        if (primaryKeyColumns.isEmpty()) {
             throw new InvalidSyncTargetException("Cannot synchronize table having no primary key");
         }
+        if (versionColumn.isPresent() && versionColumn.get().columnType() != Integer.class) {
+            throw new InvalidSyncTargetException("Cannot increment a version column which is no integer column");
+        }
+        @SuppressWarnings("unchecked")
+        Optional<DBConnection.Column<E, Integer>> integerVersionColumn
+                = versionColumn.map(column -> (DBConnection.Column<E, Integer>) column);
 
-        entries.addListener((ListChangeListener<? super E>) change -> {
-            while (change.next()) {
-                List<? extends E> removedEntries = change.getRemoved();
-                List<? extends E> addedEntries = change.getAddedSubList();
-                List<Pair<E, E>> updatedEntries = new ArrayList<>();
-
-                QueryGenerator queryGenerator = connection().getDbms().getQueryGenerator();
-
-                for (E entry : removedEntries) {
-                    int addedIndex = addedEntries.indexOf(entry);
-                    if (addedIndex > -1) {
-                        updatedEntries.add(new Pair<>(entry, addedEntries.get(addedIndex)));
-                    } else {
-                        System.out.println("TODO Remove entry from database");
-                    }
-                }
-
-                for (E entry : addedEntries) {
-                    if (!removedEntries.contains(entry)) {
-                        System.out.println("TODO Add a new entry to the database");
-                    }
-                }
-
-                for (Pair<E, E> entry : updatedEntries) {
-                    Map<String, String> fieldChanges = new HashMap<>();
-                    for (DBConnection.Column<E, ?> column : columns) {
-                        @SuppressWarnings("unchecked")
-                        Optional<ColumnPattern<C, E>> columnPattern = ((DBConnection.Column<E, C>) column).pattern();
-                        columnPattern.ifPresent(cp -> {
-                            C oldCellValue = cp.getValue(entry.getKey(), column.name());
-                            C newCellValue = cp.getValue(entry.getValue(), column.name());
-                            if (!Objects.equals(oldCellValue, newCellValue)) {
-                                String newCellSQLValue = cp.getParser().toString(newCellValue);
-                                fieldChanges.put(column.name(), newCellSQLValue);
-                            }
-                        });
-                    }
-
-                    Collection<QueryCondition<?>> primaryKeyConditions
-                            = getPrimaryKeyConditions(columns, entry.getKey());
-
-                    try {
-                        String updateQueryStatement = queryGenerator.generateUpdateQueryStatement(
-                                connection().getDatabaseName(), table, fieldChanges, primaryKeyConditions);
-                        connection().execUpdate(updateQueryStatement);
-                    } catch (GenerationFailedException | QueryFailedException ex) {
-                        LOGGER.log(Level.SEVERE,
-                                String.format("Failed to synchronize changes for %s to %s",
-                                        entry.getValue(), connection().getDatabaseName()), ex);
-                    }
-                }
-            }
-        });
+        return new WriteBehindQueue<>(connection(), table, primaryKeyColumns, integerVersionColumn, flushInterval(),
+                maxBatchSize(), failureHandler(), entries);
     }
 }
@@ -0,0 +1,24 @@
+package bayern.steinbrecher.dbConnector.utility;
+
+/**
+ * Represents a {@link java.util.function.BiFunction} whose second argument is a {@code double} which is not boxed.
+ *
+ * @param <T> The type of the first argument.
+ * @param <R> The type of the output.
+ * @author Stefan Huber
+ * @see java.util.function.BiFunction
+ * @since 0.16
+ */
+@FunctionalInterface
+public interface ObjDoubleFunction<T, R> {
+
+    /**
+     * Performs the given operation on the passed arguments.
+     *
+     * @param t     The first input argument.
+     * @param value The second input argument.
+     * @return The resulting object.
+     */
+    @SuppressWarnings("PMD.ShortVariable")
+    R apply(T t, double value);
+}
@@ -0,0 +1,26 @@
+package bayern.steinbrecher.dbConnector.utility;
+
+/**
+ * Signals that entries could not be synchronized since their rows were modified concurrently, i.e. the version of the
+ * rows in the database does not match the version the synchronized entries are based on.
+ *
+ * @author Stefan Huber
+ * @see bayern.steinbrecher.dbConnector.scheme.TableScheme#getVersionColumn()
+ * @since 0.16
+ */
+public class SyncConflictException extends Exception {
+    public SyncConflictException() {
+    }
+
+    public SyncConflictException(String message) {
+        super(message);
+    }
+
+    public SyncConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public SyncConflictException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -23,6 +23,7 @@ import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -78,11 +79,14 @@ public final class TableViewGenerator {
     @SuppressWarnings("unchecked")
     private static <E, C> TableColumn<E, C> createTableViewColumn(@NotNull DBConnection.Column<E, C> dbColumn) {
         var warnedAboutPatternlessColumn = new AtomicBoolean(false);
+        // NOTE Bind the column once instead of resolving it for each cell
+        Optional<Function<E, C>> valueGetter = dbColumn.pattern()
+                .map(pattern -> pattern.bindGetter(dbColumn.name()));
 
         TableColumn<E, C> viewColumn = new TableColumn<>();
         viewColumn.setCellValueFactory(features -> {
-            if (dbColumn.pattern().isPresent()) {
-                C cellValue = dbColumn.pattern().get().getValue(features.getValue(), dbColumn.name());
+            if (valueGetter.isPresent()) {
+                C cellValue = valueGetter.get().apply(features.getValue());
 
                 // NOTE 2022-01-09: Required to ensure CheckBoxTableCell shows value
                 if (Boolean.class.isAssignableFrom(dbColumn.columnType())) {
@@ -139,7 +143,7 @@ public final class TableViewGenerator {
             }
 
             E currentItem = event.getRowValue();
-            C currentItemValue = optPattern.get().getValue(currentItem, dbColumn.name());
+            C currentItemValue = valueGetter.get().apply(currentItem);
             C currentCellValue = event.getNewValue();
             if (currentItemValue != currentCellValue) {
                 E updatedItem = optPattern.get().combine(currentItem, dbColumn.name(),
@@ -0,0 +1,446 @@
+package bayern.steinbrecher.dbConnector.utility;
+
+import bayern.steinbrecher.dbConnector.DBConnection;
+import bayern.steinbrecher.dbConnector.query.GenerationFailedException;
+import bayern.steinbrecher.dbConnector.query.QueryCondition;
+import bayern.steinbrecher.dbConnector.query.QueryFailedException;
+import bayern.steinbrecher.dbConnector.query.QueryGenerator;
+import bayern.steinbrecher.dbConnector.query.QueryOperator;
+import bayern.steinbrecher.dbConnector.scheme.ColumnPattern;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Collects the changes of a synchronized {@link ObservableList} and writes them to the database in batches on a
+ * background thread. Multiple changes to an entry having the same primary key are coalesced based on the state of the
+ * entry before its first and after its last change, e.g. an entry which is added and removed again is never written.
+ * Pending changes are written whenever the configured interval elapsed or the number of pending changes reaches the
+ * configured batch size. All pending changes are written within a single transaction which consists of multi-row
+ * {@code DELETE}s, followed by an {@code UPDATE} per updated entry, followed by multi-row {@code INSERT}s. Since the
+ * changes of a {@link ListChangeListener.Change} are queued at once a transaction always contains all or none of them.
+ * Removed and added entries of a change are matched by their primary keys, i.e. an entry replaced by an entry having
+ * the same primary key is updated whereas changing the primary key of an entry results in removing and adding it.
+ * If the table scheme declares a version column, updates are only applied to rows whose version still equals the
+ * version the update is based on and the version is incremented by the same statement. Updates affecting no row are
+ * reported as {@link SyncConflictException} to the failure handler. The incremented versions are tracked by this queue
+ * and NOT set to the entries of the list. Hence the connection has to report the number of rows affected by each
+ * update. Otherwise updates are reported as failed since neither their success nor the resulting versions are known.
+ * Without a version column updates are not checked for conflicts at all.
+ * NOTE Updates failing due to a conflict do not roll back the transaction, i.e. all other changes written by the same
+ * transaction are still committed. This includes other entries of the same {@link ListChangeListener.Change}.
+ * NOTE Failed transactions are not retried but reported to the failure handler of the {@link DBSynchronizer} which
+ * created this queue.
+ *
+ * @param <E> The type of the synchronized entries.
+ * @author Stefan Huber
+ * @see DBSynchronizer#synchronize(ObservableList)
+ * @since 0.16
+ */
+public final class WriteBehindQueue<E> implements AutoCloseable {
+    private final DBConnection connection;
+    private final DBConnection.Table<?, E> table;
+    private final List<DBConnection.Column<E, ?>> primaryKeyColumns;
+    private final List<MappedColumn<E, ?>> mappedPrimaryKeyColumns;
+    private final Optional<DBConnection.Column<E, Integer>> versionColumn;
+    private final Optional<Function<E, Integer>> versionGetter;
+    private final int maxBatchSize;
+    private final BiConsumer<Collection<E>, Exception> failureHandler;
+    private final ObservableList<E> entries;
+    private final ListChangeListener<E> listener = this::onChanged;
+    private final ScheduledExecutorService flushExecutor;
+    /**
+     * The pending changes keyed by the SQL representation of the primary key of their entries. Guarded by itself.
+     */
+    private final Map<List<String>, PendingChange<E>> pendingChanges = new LinkedHashMap<>();
+    private final Object flushLock = new Object();
+    /**
+     * The versions of rows which were incremented by updates of this queue keyed by their primary key. Guarded by
+     * {@link #flushLock}.
+     */
+    private final Map<List<String>, Integer> knownVersions = new HashMap<>();
+    private volatile boolean closed = false;
+
+    WriteBehindQueue(@NotNull DBConnection connection, @NotNull DBConnection.Table<?, E> table,
+                     @NotNull List<DBConnection.Column<E, ?>> primaryKeyColumns,
+                     @NotNull Optional<DBConnection.Column<E, Integer>> versionColumn, @NotNull Duration flushInterval,
+                     int maxBatchSize, @NotNull BiConsumer<Collection<E>, Exception> failureHandler,
+                     @NotNull ObservableList<E> entries) {
+        this.connection = Objects.requireNonNull(connection);
+        this.table = Objects.requireNonNull(table);
+        this.primaryKeyColumns = List.copyOf(primaryKeyColumns);
+        this.mappedPrimaryKeyColumns = bindColumns(primaryKeyColumns);
+        this.versionColumn = Objects.requireNonNull(versionColumn);
+        this.versionGetter = versionColumn.flatMap(column -> column.pattern()
+                .map(pattern -> pattern.bindGetter(column.name())));
+        this.maxBatchSize = maxBatchSize;
+        this.failureHandler = Objects.requireNonNull(failureHandler);
+        this.entries = Objects.requireNonNull(entries);
+
+        flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread flushThread = new Thread(runnable, "WriteBehindQueue-" + table.getTableScheme().getTableName());
+            flushThread.setDaemon(true);
+            return flushThread;
+        });
+        long flushIntervalMillis = Math.max(1, flushInterval.toMillis());
+        flushExecutor.scheduleWithFixedDelay(
+                this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        entries.addListener(listener);
+    }
+
+    /**
+     * Binds the getters of all given columns which are associated with a pattern.
+     */
+    @NotNull
+    private static <E> List<MappedColumn<E, ?>> bindColumns(
+            @NotNull Collection<? extends DBConnection.Column<E, ?>> columns) {
+        List<MappedColumn<E, ?>> mappedColumns = new ArrayList<>(columns.size());
+        for (DBConnection.Column<E, ?> column : columns) {
+            MappedColumn.bind(column)
+                    .ifPresent(mappedColumns::add);
+        }
+        return mappedColumns;
+    }
+
+    @NotNull
+    private List<String> getPrimaryKey(@NotNull E entry) throws GenerationFailedException {
+        List<String> primaryKey = new ArrayList<>(primaryKeyColumns.size());
+        for (DBConnection.Column<E, ?> column : primaryKeyColumns) {
+            Optional<? extends ColumnPattern<?, E>> pattern = column.pattern();
+            if (pattern.isEmpty()) {
+                throw new GenerationFailedException(
+                        String.format("Cannot extract the value of column '%s' since there is no associated pattern",
+                                column.name()));
+            }
+            primaryKey.add(pattern.get().getSQLValue(entry, column.name()));
+        }
+        return primaryKey;
+    }
+
+    private void onChanged(@NotNull ListChangeListener.Change<? extends E> change) {
+        List<E> failedEntries = new ArrayList<>();
+        GenerationFailedException failure = null;
+        int numPendingChanges;
+        synchronized (pendingChanges) {
+            while (change.next()) {
+                // NOTE Match removed and added entries by their primary keys instead of searching the lists
+                Map<List<String>, E> addedEntries = new LinkedHashMap<>();
+                for (E entry : change.getAddedSubList()) {
+                    try {
+                        addedEntries.put(getPrimaryKey(entry), entry);
+                    } catch (GenerationFailedException ex) {
+                        failedEntries.add(entry);
+                        failure = ex;
+                    }
+                }
+
+                for (E entry : change.getRemoved()) {
+                    try {
+                        List<String> primaryKey = getPrimaryKey(entry);
+                        E addedEntry = addedEntries.remove(primaryKey);
+                        if (addedEntry == null) {
+                            enqueueRemove(primaryKey, entry);
+                        } else {
+                            enqueueUpdate(primaryKey, entry, addedEntry);
+                        }
+                    } catch (GenerationFailedException ex) {
+                        failedEntries.add(entry);
+                        failure = ex;
+                    }
+                }
+
+                addedEntries.forEach(this::enqueueAdd);
+            }
+            numPendingChanges = pendingChanges.size();
+        }
+
+        if (failure != null) {
+            failureHandler.accept(failedEntries, failure);
+        }
+        if (numPendingChanges >= maxBatchSize) {
+            try {
+                flushExecutor.execute(this::flush);
+            } catch (RejectedExecutionException ex) {
+                // NOTE The queue is closing and flushes remaining changes itself
+            }
+        }
+    }
+
+    // NOTE The following enqueue methods have to be called while holding the lock of pendingChanges
+    private void enqueueUpdate(@NotNull List<String> primaryKey, @NotNull E oldEntry, @NotNull E newEntry) {
+        PendingChange<E> previousChange = pendingChanges.remove(primaryKey);
+        E originalEntry = (previousChange == null) ? oldEntry : previousChange.originalEntry();
+        pendingChanges.put(primaryKey, new PendingChange<>(originalEntry, newEntry));
+    }
+
+    private void enqueueAdd(@NotNull List<String> primaryKey, @NotNull E entry) {
+        PendingChange<E> previousChange = pendingChanges.remove(primaryKey);
+        // NOTE If the entry was removed before, it has to be updated instead
+        E originalEntry = (previousChange == null) ? null : previousChange.originalEntry();
+        pendingChanges.put(primaryKey, new PendingChange<>(originalEntry, entry));
+    }
+
+    private void enqueueRemove(@NotNull List<String> primaryKey, @NotNull E entry) {
+        PendingChange<E> previousChange = pendingChanges.remove(primaryKey);
+        if (previousChange == null) {
+            pendingChanges.put(primaryKey, new PendingChange<>(entry, null));
+        } else if (previousChange.originalEntry() != null) {
+            pendingChanges.put(primaryKey, new PendingChange<>(previousChange.originalEntry(), null));
+        } // NOTE Otherwise the entry was added after the last flush and the database does not know it at all
+    }
+
+    @NotNull
+    private static <E> Map<String, String> getFieldChanges(@NotNull List<MappedColumn<E, ?>> mappedColumns,
+                                                           @NotNull E originalEntry, @NotNull E latestEntry) {
+        Map<String, String> fieldChanges = new HashMap<>();
+        for (MappedColumn<E, ?> mappedColumn : mappedColumns) {
+            mappedColumn.getChangedSQLValue(originalEntry, latestEntry)
+                    .ifPresent(sqlValue -> fieldChanges.put(mappedColumn.column().name(), sqlValue));
+        }
+        return fieldChanges;
+    }
+
+    @NotNull
+    private Collection<QueryCondition<?>> getPrimaryKeyConditions(@NotNull E entry) {
+        QueryGenerator queryGenerator = connection.getDbms().getQueryGenerator();
+        Collection<QueryCondition<?>> primaryKeyConditions = new ArrayList<>();
+        for (MappedColumn<E, ?> mappedColumn : mappedPrimaryKeyColumns) {
+            primaryKeyConditions.add(mappedColumn.generateEqualityCondition(queryGenerator, entry));
+        }
+        return primaryKeyConditions;
+    }
+
+    /**
+     * Returns the version of the row of the given entry which an update of the entry has to expect.
+     *
+     * @return {@code null} if the table has no version column or the version is unknown.
+     */
+    @Nullable
+    private Integer getExpectedVersion(@NotNull List<String> primaryKey, @NotNull E originalEntry) {
+        return versionGetter.map(getter -> knownVersions.containsKey(primaryKey)
+                        ? knownVersions.get(primaryKey)
+                        : getter.apply(originalEntry))
+                .orElse(null);
+    }
+
+    @NotNull
+    private String generateUpdateStatement(@NotNull QueryGenerator queryGenerator,
+                                           @NotNull Map<String, String> fieldChanges, @NotNull E originalEntry,
+                                           @Nullable Integer expectedVersion) throws GenerationFailedException {
+        Collection<QueryCondition<?>> conditions = getPrimaryKeyConditions(originalEntry);
+        List<String> incrementedColumns = new ArrayList<>();
+        if (versionColumn.isPresent()) {
+            DBConnection.Column<E, Integer> column = versionColumn.get();
+            if (expectedVersion != null) {
+                conditions.add(QueryOperator.getEqualityOperator(Integer.class)
+                        .generateCondition(queryGenerator, column, expectedVersion));
+            }
+            incrementedColumns.add(column.name());
+        }
+        return queryGenerator.generateUpdateQueryStatement(
+                connection.getDatabaseName(), table, fieldChanges, conditions, incrementedColumns);
+    }
+
+    /**
+     * Writes all currently pending changes to the database within a single transaction. Blocks until all of them are
+     * written or failed. Failures are reported to the failure handler instead of being thrown.
+     */
+    public void flush() {
+        synchronized (flushLock) {
+            Map<List<String>, PendingChange<E>> changesToFlush;
+            synchronized (pendingChanges) {
+                changesToFlush = new LinkedHashMap<>(pendingChanges);
+                pendingChanges.clear();
+            }
+            if (changesToFlush.isEmpty()) {
+                return;
+            }
+
+            List<E> removedEntries = new ArrayList<>();
+            List<E> addedEntries = new ArrayList<>();
+            Map<List<String>, PendingChange<E>> updatedEntries = new LinkedHashMap<>();
+            changesToFlush.forEach((primaryKey, change) -> {
+                if (change.latestEntry() == null) {
+                    removedEntries.add(change.originalEntry());
+                } else if (change.originalEntry() == null) {
+                    addedEntries.add(change.latestEntry());
+                } else {
+                    updatedEntries.put(primaryKey, change);
+                }
+            });
+
+            QueryGenerator queryGenerator = connection.getDbms().getQueryGenerator();
+            String dbName = connection.getDatabaseName();
+            try {
+                List<String> statements = new ArrayList<>(
+                        queryGenerator.generateDeleteByPrimaryKeyStatements(dbName, table, removedEntries));
+                // NOTE Remember which statement updates which entry for checking its affected rows
+                Map<Integer, List<String>> updateStatementKeys = new HashMap<>();
+                Map<List<String>, Integer> expectedVersions = new HashMap<>();
+                // NOTE Bind the columns once instead of resolving them for each updated entry
+                List<MappedColumn<E, ?>> mappedColumns = updatedEntries.isEmpty()
+                        ? List.of()
+                        : bindColumns(table.getColumns());
+                for (Map.Entry<List<String>, PendingChange<E>> update : updatedEntries.entrySet()) {
+                    PendingChange<E> change = update.getValue();
+                    Map<String, String> fieldChanges
+                            = getFieldChanges(mappedColumns, change.originalEntry(), change.latestEntry());
+                    versionColumn.ifPresent(column -> fieldChanges.remove(column.name()));
+                    if (!fieldChanges.isEmpty()) {
+                        Integer expectedVersion = getExpectedVersion(update.getKey(), change.originalEntry());
+                        expectedVersions.put(update.getKey(), expectedVersion);
+                        updateStatementKeys.put(statements.size(), update.getKey());
+                        statements.add(generateUpdateStatement(
+                                queryGenerator, fieldChanges, change.originalEntry(), expectedVersion));
+                    }
+                }
+                statements.addAll(queryGenerator.generateInsertRowsStatements(dbName, table, addedEntries));
+                List<Long> affectedRows = connection.execUpdatesAtomically(statements);
+
+                knownVersions.keySet().removeAll(changesToFlush.keySet());
+                List<E> conflictingEntries = new ArrayList<>();
+                List<E> unverifiedEntries = new ArrayList<>();
+                updateStatementKeys.forEach((statementIndex, primaryKey) -> {
+                    E latestEntry = updatedEntries.get(primaryKey).latestEntry();
+                    long numAffectedRows = affectedRows.get(statementIndex);
+                    /*
+                     * NOTE Without a version column the affected rows do not indicate conflicts since connections
+                     * either count the rows matching an update or only the rows actually changed by it.
+                     */
+                    if (versionColumn.isEmpty()) {
+                        return;
+                    }
+                    if (numAffectedRows == 0) {
+                        conflictingEntries.add(latestEntry);
+                    } else if (numAffectedRows == DBConnection.UNKNOWN_AFFECTED_ROWS) {
+                        // NOTE Neither whether the version matched nor the resulting version is known
+                        unverifiedEntries.add(latestEntry);
+                    } else {
+                        Integer expectedVersion = expectedVersions.get(primaryKey);
+                        if (expectedVersion != null) {
+                            knownVersions.put(primaryKey, expectedVersion + 1);
+                        }
+                    }
+                });
+                if (!conflictingEntries.isEmpty()) {
+                    failureHandler.accept(conflictingEntries, new SyncConflictException(String.format(
+                            "%d entries were not updated since their rows were modified concurrently or removed",
+                            conflictingEntries.size())));
+                }
+                if (!unverifiedEntries.isEmpty()) {
+                    failureHandler.accept(unverifiedEntries, new QueryFailedException(String.format(
+                            "Could not verify the versions of %d updated entries since the connection does not "
+                                    + "report the number of affected rows", unverifiedEntries.size())));
+                }
+            } catch (GenerationFailedException | QueryFailedException | RuntimeException ex) {
+                failureHandler.accept(
+                        changesToFlush.values()
+                                .stream()
+                                .map(change -> (change.latestEntry() == null)
+                                        ? change.originalEntry()
+                                        : change.latestEntry())
+                                .toList(),
+                        ex);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries having changes which are not written to the database yet.
+     */
+    public int getPendingCount() {
+        synchronized (pendingChanges) {
+            return pendingChanges.size();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Stops synchronizing the list and writes all remaining pending changes to the database.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            entries.removeListener(listener);
+            flushExecutor.shutdown();
+            try {
+                if (!flushExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    flushExecutor.shutdownNow();
+                }
+            } catch (InterruptedException ex) {
+                flushExecutor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+            flush();
+        }
+    }
+
+    /**
+     * @param originalEntry The state of the entry as it is known by the database. {@code null} if the entry was added.
+     * @param latestEntry   The state of the entry to write to the database. {@code null} if the entry was removed.
+     */
+    private record PendingChange<E>(
+            @Nullable E originalEntry,
+            @Nullable E latestEntry
+    ) {
+    }
+
+    /**
+     * @param column  A column of the table.
+     * @param pattern The pattern associated with the column.
+     * @param getter  The getter of the pattern bound to the column.
+     */
+    private record MappedColumn<E, C>(
+            @NotNull DBConnection.Column<E, C> column,
+            @NotNull ColumnPattern<C, E> pattern,
+            @NotNull Function<E, C> getter
+    ) {
+        /**
+         * @return {@link Optional#empty()} if the column is not associated with any pattern.
+         */
+        @NotNull
+        static <E, C> Optional<MappedColumn<E, C>> bind(@NotNull DBConnection.Column<E, C> column) {
+            return column.pattern()
+                    .map(pattern -> new MappedColumn<>(column, pattern, pattern.bindGetter(column.name())));
+        }
+
+        /**
+         * Returns the SQL representation of the value of the latest entry if it differs from the original entry.
+         */
+        @NotNull
+        Optional<String> getChangedSQLValue(@NotNull E originalEntry, @NotNull E latestEntry) {
+            C latestValue = getter.apply(latestEntry);
+            if (Objects.equals(getter.apply(originalEntry), latestValue)) {
+                return Optional.empty();
+            }
+            return Optional.of(pattern.getParser().toString(latestValue));
+        }
+
+        @NotNull
+        QueryCondition<?> generateEqualityCondition(@NotNull QueryGenerator queryGenerator, @NotNull E entry) {
+            return QueryOperator.getEqualityOperator(pattern.getParser().getType())
+                    .generateCondition(queryGenerator, column, getter.apply(entry));
+        }
+    }
+}
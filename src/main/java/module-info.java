@@ -14,6 +14,7 @@ module bayern.steinbrecher.DBConnector {
     requires javafx.base;
     requires javafx.controls;
     requires org.jetbrains.annotations;
+    requires org.mariadb.jdbc;
 
     // FIXME Open to whom?
     opens bayern.steinbrecher.dbConnector.query.templates.mysql;
@@ -0,0 +1,132 @@
+package bayern.steinbrecher.test.dbConnector;
+
+import bayern.steinbrecher.dbConnector.CachingConnection;
+import bayern.steinbrecher.test.dbConnector.utility.ScriptedConnection;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks which query results {@link CachingConnection} caches and which statements invalidate them based on a scripted
+ * connection.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class CachingConnectionTest {
+    private static final String PERSON_QUERY = "SELECT `name` FROM `ScriptedDB`.`Person`";
+    private static final String ADDRESS_QUERY = "SELECT `city` FROM `ScriptedDB`.`Address` ORDER BY `city`";
+    private ScriptedConnection delegate;
+    private CachingConnection connection;
+
+    @BeforeEach
+    void setupConnection() {
+        delegate = new ScriptedConnection();
+        delegate.answer("`Person`", List.of(List.of("name"), List.of("a"), List.of("b")));
+        delegate.answer("`Address`", List.of(List.of("city"), List.of("c")));
+        delegate.answer("SELECT ", List.of(List.of("value"), List.of("1")));
+        connection = new CachingConnection(delegate, 100, Duration.ofHours(1));
+    }
+
+    private long countExecutions(@NotNull String sqlCode) {
+        return delegate.getExecutedQueries()
+                .stream()
+                .filter(sqlCode::equals)
+                .count();
+    }
+
+    @Test
+    void answerRepeatedQueriesFromCache() throws Exception {
+        List<List<String>> result = connection.execQuery(PERSON_QUERY);
+        assertEquals(List.of(List.of("name"), List.of("a"), List.of("b")), result);
+        assertSame(result, connection.execQuery(PERSON_QUERY));
+        assertEquals(1, countExecutions(PERSON_QUERY));
+
+        CachingConnection.CacheStatistics statistics = connection.getCacheStatistics();
+        assertEquals(1, statistics.hitCount());
+        assertEquals(1, statistics.missCount());
+        assertEquals(0.5, statistics.hitRate());
+    }
+
+    @Test
+    void rejectModificationsOfCachedResults() throws Exception {
+        List<List<String>> result = connection.execQuery(PERSON_QUERY);
+        assertThrows(UnsupportedOperationException.class, () -> result.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> result.get(1).set(0, "changed"));
+        assertEquals(List.of(List.of("name"), List.of("a"), List.of("b")), connection.execQuery(PERSON_QUERY));
+    }
+
+    @Test
+    void invalidateResultsOfModifiedTablesOnly() throws Exception {
+        connection.execQuery(PERSON_QUERY);
+        connection.execQuery(ADDRESS_QUERY);
+        connection.execUpdate("UPDATE `ScriptedDB`.`Person` SET `name` = 'c' WHERE `name` = 'a'");
+        connection.execQuery(PERSON_QUERY);
+        connection.execQuery(ADDRESS_QUERY);
+        assertEquals(2, countExecutions(PERSON_QUERY));
+        assertEquals(1, countExecutions(ADDRESS_QUERY));
+
+        // NOTE The case of table names is ignored
+        connection.execUpdates(List.of("INSERT INTO address (`city`) VALUES ('d')"));
+        connection.execQuery(PERSON_QUERY);
+        connection.execQuery(ADDRESS_QUERY);
+        assertEquals(2, countExecutions(PERSON_QUERY));
+        assertEquals(2, countExecutions(ADDRESS_QUERY));
+    }
+
+    private static Stream<String> provideStatementsInvalidatingAll() {
+        return Stream.of(
+                "ALTER TABLE `ScriptedDB`.`Person` ADD COLUMN `age` INT",
+                "DROP TABLE IF EXISTS `ScriptedDB`.`Person`",
+                "TRUNCATE TABLE `ScriptedDB`.`Person`",
+                "CREATE TABLE `ScriptedDB`.`Other` (`id` INT)",
+                // NOTE The modified tables of this statement can not be determined
+                "SET @counter = 0"
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideStatementsInvalidatingAll")
+    void invalidateAllResults(@NotNull String statement) throws Exception {
+        connection.execQuery(PERSON_QUERY);
+        connection.execQuery(ADDRESS_QUERY);
+        assertEquals(2, connection.getCacheSize());
+        connection.execUpdate(statement);
+        assertEquals(0, connection.getCacheSize());
+        connection.execQuery(PERSON_QUERY);
+        connection.execQuery(ADDRESS_QUERY);
+        assertEquals(2, countExecutions(PERSON_QUERY));
+        assertEquals(2, countExecutions(ADDRESS_QUERY));
+    }
+
+    private static Stream<String> provideUncacheableQueries() {
+        return Stream.of(
+                "SELECT NOW(), `name` FROM `ScriptedDB`.`Person`",
+                "SELECT `name` FROM `ScriptedDB`.`Person` WHERE `since` < CURRENT_DATE ()",
+                "SELECT `name` FROM `ScriptedDB`.`Person` ORDER BY rand()",
+                "SELECT UUID() FROM `ScriptedDB`.`Person`",
+                // NOTE Results of queries without tables could not be invalidated
+                "SELECT 1"
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideUncacheableQueries")
+    void executeUncacheableQueriesAlways(@NotNull String query) throws Exception {
+        connection.execQuery(query);
+        connection.execQuery(query);
+        assertEquals(2, countExecutions(query));
+        assertEquals(0, connection.getCacheSize());
+        assertEquals(0, connection.getCacheStatistics().hitCount());
+    }
+}
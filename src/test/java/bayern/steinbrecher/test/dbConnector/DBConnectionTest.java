@@ -0,0 +1,108 @@
+package bayern.steinbrecher.test.dbConnector;
+
+import bayern.steinbrecher.dbConnector.scheme.ColumnParser;
+import bayern.steinbrecher.dbConnector.scheme.SimpleColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.TableScheme;
+import bayern.steinbrecher.test.dbConnector.utility.ScriptedConnection;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks requesting table contents via {@link bayern.steinbrecher.dbConnector.DBConnection} based on scripted query
+ * results.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class DBConnectionTest {
+    private static final int NUM_ROWS = 50_000;
+    private final Set<Thread> parsingThreads = ConcurrentHashMap.newKeySet();
+    private final TableScheme<List<Entry>, Entry> entryScheme = new TableScheme<>(
+            "Entry",
+            List.of(
+                    new SimpleColumnPattern<>("id", ColumnParser.INTEGER_COLUMN_PARSER, this::parseId, Entry::id,
+                            Optional.empty(), true, false),
+                    new SimpleColumnPattern<>("name", ColumnParser.STRING_COLUMN_PARSER, Entry::withName,
+                            Entry::name)
+            ),
+            List.of(),
+            Entry::new,
+            e -> e.collect(Collectors.toList())
+    );
+    private ScriptedConnection connection;
+
+    @NotNull
+    private Entry parseId(@NotNull Entry entry, Integer id) {
+        parsingThreads.add(Thread.currentThread());
+        return entry.withId(id);
+    }
+
+    @BeforeEach
+    void setupConnection() {
+        connection = new ScriptedConnection();
+        connection.addTable("Entry", List.of(Map.entry("id", "INT"), Map.entry("name", "VARCHAR")));
+        List<List<String>> content = new ArrayList<>(NUM_ROWS + 1);
+        content.add(List.of("id", "name"));
+        for (int i = 0; i < NUM_ROWS; i++) {
+            content.add(List.of(String.valueOf(i), "name" + i));
+        }
+        connection.answer("FROM `ScriptedDB`.`Entry`", content);
+    }
+
+    @Test
+    void parseTableContentInParallel() throws Exception {
+        List<Entry> sequentiallyParsed = connection.getTableContent(entryScheme);
+        assertEquals(NUM_ROWS, sequentiallyParsed.size());
+        assertEquals(Set.of(Thread.currentThread()), parsingThreads);
+
+        parsingThreads.clear();
+        assertEquals(sequentiallyParsed, connection.getTableContent(entryScheme, 1));
+        assumeTrue(ForkJoinPool.getCommonPoolParallelism() > 1, "Parsing in parallel requires multiple threads");
+        assertTrue(parsingThreads.size() > 1, "The entries were parsed by a single thread only");
+    }
+
+    @Test
+    void parseTableContentBelowThresholdSequentially() throws Exception {
+        List<Entry> entries = connection.getTableContent(entryScheme, NUM_ROWS + 1);
+        assertEquals(NUM_ROWS, entries.size());
+        assertEquals(Set.of(Thread.currentThread()), parsingThreads);
+    }
+
+    @Test
+    void rejectNonPositiveParallelParsingThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> connection.getTableContent(entryScheme, 0));
+        assertEquals(List.of(), connection.getExecutedQueries());
+    }
+
+    private record Entry(
+            Integer id,
+            String name
+    ) {
+        Entry() {
+            this(null, null);
+        }
+
+        Entry withId(Integer id) {
+            return new Entry(id, name);
+        }
+
+        Entry withName(String name) {
+            return new Entry(id, name);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package bayern.steinbrecher.test.dbConnector;
+
+import bayern.steinbrecher.dbConnector.DBConnection;
+import bayern.steinbrecher.dbConnector.query.QueryFailedException;
+import bayern.steinbrecher.test.dbConnector.utility.EmbeddedDatabase;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks query results of {@link bayern.steinbrecher.dbConnector.SimpleConnection} against a real database.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class SimpleConnectionTest {
+    @RegisterExtension
+    static final EmbeddedDatabase DATABASE = new EmbeddedDatabase();
+
+    @Test
+    void spillResultsExceedingMemoryBudget() throws QueryFailedException {
+        DBConnection connection = DATABASE.getConnection();
+        String table = String.format("`%s`.`Spilled`", EmbeddedDatabase.DB_NAME);
+        connection.execUpdate("DROP TABLE IF EXISTS " + table);
+        connection.execUpdate("CREATE TABLE " + table + " (`id` INT PRIMARY KEY, `text` VARCHAR(255))"
+                + " CHARACTER SET utf8mb4");
+        connection.execUpdate("INSERT INTO " + table + " (`id`, `text`) VALUES "
+                + "(1, 'plain'), (2, NULL), (3, 'äöü€𝄞'), (4, ''), (5, 'NULL'), (6, 'äöü€𝄞')");
+        String query = "SELECT `id`, `text` FROM " + table + " ORDER BY `id`";
+
+        List<List<String>> expected = List.of(
+                List.of("id", "text"),
+                List.of("1", "plain"),
+                Arrays.asList("2", null),
+                List.of("3", "äöü€𝄞"),
+                List.of("4", ""),
+                List.of("5", "NULL"),
+                List.of("6", "äöü€𝄞")
+        );
+        assertEquals(expected, connection.execQuery(query));
+        connection.setResultMemoryBudget(0);
+        try {
+            List<List<String>> spilledResult = connection.execQuery(query);
+            assertEquals(expected.size(), spilledResult.size());
+            // NOTE Reading rows repeatedly and out of order decodes them from the spill file again
+            assertEquals(expected.get(3), spilledResult.get(3));
+            assertEquals(expected, new ArrayList<>(spilledResult));
+        } finally {
+            connection.setResultMemoryBudget(Long.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package bayern.steinbrecher.test.dbConnector;
+
+import bayern.steinbrecher.dbConnector.DBConnection;
+import bayern.steinbrecher.dbConnector.TableContentPoller;
+import bayern.steinbrecher.dbConnector.query.FingerprintStrategy;
+import bayern.steinbrecher.dbConnector.query.SupportedDBMS;
+import bayern.steinbrecher.dbConnector.scheme.TableScheme;
+import bayern.steinbrecher.test.dbConnector.utility.SampleEntry;
+import bayern.steinbrecher.test.dbConnector.utility.ScriptedConnection;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks which queries the strategies for fingerprints of tables execute based on scripted query results.
+ *
+ * @author Stefan Huber
+ * @see DBConnection.Table#getFingerprint(FingerprintStrategy)
+ * @since 0.16
+ */
+public class TableFingerprintTest {
+    private static final TableScheme<List<SampleEntry>, SampleEntry> SCHEME = SampleEntry.createScheme("Person");
+    private ScriptedConnection connection;
+    private DBConnection.Table<List<SampleEntry>, SampleEntry> table;
+
+    @BeforeEach
+    void setupConnection() throws Exception {
+        connection = new ScriptedConnection();
+        connection.addTable(SCHEME.getTableName(), List.of(Map.entry("id", "INT"), Map.entry("name", "VARCHAR")));
+        connection.answer("CHECKSUM TABLE", List.of(List.of("Table", "Checksum"), List.of("ScriptedDB.Person", "42")));
+        connection.answer("COUNT(*)", List.of(List.of("COUNT(*)", "MAX(`id`)"), List.of("3", "7")));
+        table = connection.getTable(SCHEME).orElseThrow();
+    }
+
+    private boolean wasExecuted(@NotNull String sqlPart) {
+        return connection.getExecutedQueries()
+                .stream()
+                .anyMatch(query -> query.contains(sqlPart));
+    }
+
+    private void answerUpdateTime(String updateTime, String currentTime) {
+        connection.answer("UPDATE_TIME", List.of(List.of("UPDATE_TIME", "CURRENT_TIME"),
+                // NOTE List.of(...) does not allow null values
+                Arrays.asList(updateTime, currentTime)));
+    }
+
+    @Test
+    void avoidCachedUpdateTimesOfMySQL() {
+        assertEquals(FingerprintStrategy.UPDATE_TIME, SupportedDBMS.MARIADB.getFingerprintStrategy());
+        assertEquals(FingerprintStrategy.CHECKSUM, SupportedDBMS.MY_SQL.getFingerprintStrategy());
+    }
+
+    @Test
+    void useTrackedUpdateTime() throws Exception {
+        answerUpdateTime("2020-01-02 03:04:05", "2020-01-02 03:04:06");
+        assertEquals(Optional.of("updated:2020-01-02 03:04:05"), table.getFingerprint());
+        assertFalse(wasExecuted("CHECKSUM TABLE"));
+    }
+
+    @Test
+    void rejectUpdateTimeOfCurrentSecond() throws Exception {
+        answerUpdateTime("2020-01-02 03:04:05", "2020-01-02 03:04:05");
+        assertEquals(Optional.empty(), table.getFingerprint(FingerprintStrategy.UPDATE_TIME));
+    }
+
+    @Test
+    void fallBackToChecksumIfUpdateTimeIsNotTracked() throws Exception {
+        answerUpdateTime(null, "2020-01-02 03:04:06");
+        assertEquals(Optional.of("checksum:42"), table.getFingerprint(FingerprintStrategy.UPDATE_TIME));
+    }
+
+    @Test
+    void useChecksum() throws Exception {
+        assertEquals(Optional.of("checksum:42"), table.getFingerprint(FingerprintStrategy.CHECKSUM));
+        assertFalse(wasExecuted("UPDATE_TIME"));
+    }
+
+    @Test
+    void useRowCountAndMaxKey() throws Exception {
+        assertEquals(Optional.of("rows:3;max:7"), table.getFingerprint(FingerprintStrategy.ROW_COUNT_AND_MAX_KEY));
+        assertTrue(wasExecuted("MAX(`id`)"));
+        assertFalse(wasExecuted("CHECKSUM TABLE"));
+    }
+
+    @Test
+    void pollWithGivenStrategy() throws Exception {
+        connection.answer("FROM `ScriptedDB`.`Person`", List.of(List.of("id", "name"), List.of("1", "a")));
+        TableContentPoller<List<SampleEntry>, SampleEntry> poller
+                = connection.getTableContentPoller(SCHEME, List.of(), FingerprintStrategy.ROW_COUNT_AND_MAX_KEY);
+        assertEquals(List.of(new SampleEntry(1, "a")), poller.poll());
+        assertEquals(List.of(new SampleEntry(1, "a")), poller.poll());
+        assertFalse(poller.hasChangedOnLastPoll());
+        assertFalse(wasExecuted("CHECKSUM TABLE"));
+    }
+}
@@ -0,0 +1,76 @@
+package bayern.steinbrecher.test.dbConnector;
+
+import bayern.steinbrecher.dbConnector.TableRefresher;
+import bayern.steinbrecher.dbConnector.query.QueryFailedException;
+import bayern.steinbrecher.dbConnector.scheme.TableScheme;
+import bayern.steinbrecher.test.dbConnector.utility.EmbeddedDatabase;
+import bayern.steinbrecher.test.dbConnector.utility.SampleEntry;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that {@link TableRefresher} reflects rows inserted, updated and deleted by others.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class TableRefresherTest {
+    @RegisterExtension
+    static final EmbeddedDatabase DATABASE = new EmbeddedDatabase();
+
+    /**
+     * Provides a scheme whose rows are compared by checksums and a scheme whose rows are compared by a version column.
+     */
+    private static Stream<TableScheme<List<SampleEntry>, SampleEntry>> provideSchemes() {
+        return Stream.of(
+                SampleEntry.createScheme("ChecksumItem"),
+                SampleEntry.createVersionedScheme("VersionedItem")
+        );
+    }
+
+    private static void execUpdate(@NotNull TableScheme<?, ?> scheme, @NotNull String sqlTemplate)
+            throws QueryFailedException {
+        DATABASE.getConnection().execUpdate(String.format(sqlTemplate, DATABASE.qualify(scheme)));
+    }
+
+    @NotNull
+    private static List<SampleEntry> sorted(@NotNull List<SampleEntry> entries) {
+        List<SampleEntry> sortedEntries = new ArrayList<>(entries);
+        sortedEntries.sort(Comparator.comparing(SampleEntry::id));
+        return sortedEntries;
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSchemes")
+    void refreshAddedSetAndRemovedRows(TableScheme<List<SampleEntry>, SampleEntry> scheme) throws Exception {
+        boolean versioned = scheme.getVersionColumn().isPresent();
+        DATABASE.recreateTable(scheme);
+        execUpdate(scheme, "INSERT INTO %s (`id`, `name`) VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+
+        TableRefresher<SampleEntry> refresher = DATABASE.getConnection().getTableRefresher(scheme);
+        List<SampleEntry> entries = new ArrayList<>();
+        assertEquals(3, refresher.refresh(entries));
+        assertEquals(sorted(DATABASE.getConnection().getTableContent(scheme)), sorted(entries));
+        assertEquals(0, refresher.refresh(entries));
+
+        execUpdate(scheme, "INSERT INTO %s (`id`, `name`) VALUES (4, 'd')");
+        execUpdate(scheme, versioned
+                ? "UPDATE %s SET `name` = 'b2', `version` = `version` + 1 WHERE `id` = 2"
+                : "UPDATE %s SET `name` = 'b2' WHERE `id` = 2");
+        execUpdate(scheme, "DELETE FROM %s WHERE `id` = 3");
+        assertEquals(3, refresher.refresh(entries));
+        assertEquals(3, entries.size());
+        assertEquals(sorted(DATABASE.getConnection().getTableContent(scheme)), sorted(entries));
+        assertEquals(List.of("a", "b2", "d"), sorted(entries).stream().map(SampleEntry::name).toList());
+        assertEquals(0, refresher.refresh(entries));
+    }
+}
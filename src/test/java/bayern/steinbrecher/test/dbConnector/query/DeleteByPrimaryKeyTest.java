@@ -0,0 +1,74 @@
+package bayern.steinbrecher.test.dbConnector.query;
+
+import bayern.steinbrecher.dbConnector.DBConnection;
+import bayern.steinbrecher.dbConnector.scheme.TableScheme;
+import bayern.steinbrecher.test.dbConnector.utility.EmbeddedDatabase;
+import bayern.steinbrecher.test.dbConnector.utility.SampleEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks deleting entries by their primary keys from a real database.
+ *
+ * @author Stefan Huber
+ * @see bayern.steinbrecher.dbConnector.query.QueryGenerator#generateDeleteByPrimaryKeyStatements(String,
+ * DBConnection.Table, java.util.Collection, int)
+ * @since 0.16
+ */
+public class DeleteByPrimaryKeyTest {
+    @RegisterExtension
+    static final EmbeddedDatabase DATABASE = new EmbeddedDatabase();
+    private static final TableScheme<List<SampleEntry>, SampleEntry> SCHEME
+            = SampleEntry.createCompositeKeyScheme("Member");
+    private static final List<SampleEntry> ENTRIES = List.of(
+            new SampleEntry(1, 1, "a", null),
+            new SampleEntry(1, 2, "O'Neil", null),
+            new SampleEntry(2, 1, "c", null),
+            new SampleEntry(2, 2, "d", null),
+            new SampleEntry(3, 1, "e", null),
+            new SampleEntry(3, 2, "f", null)
+    );
+
+    @BeforeEach
+    void recreateTable() throws Exception {
+        DATABASE.recreateTable(SCHEME);
+        DATABASE.getConnection().execUpdate("INSERT INTO " + DATABASE.qualify(SCHEME)
+                + " (`id`, `subId`, `name`) VALUES "
+                + "(1, 1, 'a'), (1, 2, 'O''Neil'), (2, 1, 'c'), (2, 2, 'd'), (3, 1, 'e'), (3, 2, 'f')");
+    }
+
+    @Test
+    void deleteByCompositePrimaryKeys() throws Exception {
+        DBConnection connection = DATABASE.getConnection();
+        // NOTE Deleting (1, 2) and (2, 1) must neither delete (1, 1) nor (2, 2)
+        List<SampleEntry> entriesToDelete = List.of(ENTRIES.get(1), ENTRIES.get(2), ENTRIES.get(5));
+        List<String> statements = connection.getDbms()
+                .getQueryGenerator()
+                .generateDeleteByPrimaryKeyStatements(EmbeddedDatabase.DB_NAME,
+                        connection.getTable(SCHEME).orElseThrow(), entriesToDelete, 2);
+        assertEquals(2, statements.size());
+        connection.execUpdates(statements);
+
+        List<SampleEntry> remainingEntries = connection.getTableContent(SCHEME)
+                .stream()
+                .sorted(Comparator.comparing(SampleEntry::id).thenComparing(SampleEntry::subId))
+                .toList();
+        assertEquals(List.of(ENTRIES.get(0), ENTRIES.get(3), ENTRIES.get(4)), remainingEntries);
+    }
+
+    @Test
+    void deleteNothing() throws Exception {
+        DBConnection connection = DATABASE.getConnection();
+        assertEquals(List.of(), connection.getDbms()
+                .getQueryGenerator()
+                .generateDeleteByPrimaryKeyStatements(EmbeddedDatabase.DB_NAME,
+                        connection.getTable(SCHEME).orElseThrow(), List.of()));
+        assertEquals(ENTRIES.size(), connection.getTableContent(SCHEME).size());
+    }
+}
@@ -0,0 +1,76 @@
+package bayern.steinbrecher.test.dbConnector.query;
+
+import bayern.steinbrecher.dbConnector.DBConnection;
+import bayern.steinbrecher.dbConnector.TablePager;
+import bayern.steinbrecher.dbConnector.query.QueryGenerator;
+import bayern.steinbrecher.dbConnector.scheme.ColumnParser;
+import bayern.steinbrecher.dbConnector.scheme.SimpleColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.TableScheme;
+import bayern.steinbrecher.test.dbConnector.utility.SampleEntry;
+import bayern.steinbrecher.test.dbConnector.utility.ScriptedConnection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks SQL code generated by {@link QueryGenerator} without accessing a database.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class QueryGeneratorTest {
+    /**
+     * A scheme whose primary key is the string column {@code name}.
+     */
+    private static final TableScheme<List<SampleEntry>, SampleEntry> NAMED_SCHEME = new TableScheme<>(
+            "Named",
+            List.of(new SimpleColumnPattern<>("name", ColumnParser.STRING_COLUMN_PARSER, SampleEntry::withName,
+                    SampleEntry::name, Optional.empty(), true, false)),
+            List.of(),
+            SampleEntry::new,
+            e -> e.collect(Collectors.toList())
+    );
+    private ScriptedConnection connection;
+
+    @BeforeEach
+    void setupConnection() {
+        connection = new ScriptedConnection();
+        connection.addTable(NAMED_SCHEME.getTableName(), List.of(Map.entry("name", "VARCHAR")));
+    }
+
+    @Test
+    void escapeKeysOfDeleteStatements() throws Exception {
+        DBConnection.Table<List<SampleEntry>, SampleEntry> table = connection.getTable(NAMED_SCHEME)
+                .orElseThrow();
+        List<String> statements = connection.getDbms()
+                .getQueryGenerator()
+                .generateDeleteByPrimaryKeyStatements(ScriptedConnection.DB_NAME, table,
+                        List.of(new SampleEntry(null, "O'Brien \\ c"), new SampleEntry(null, "') OR ('1'='1")));
+        assertEquals(1, statements.size());
+        assertTrue(statements.get(0).contains("IN ('O''Brien \\\\ c', ''') OR (''1''=''1')"),
+                "Keys are not escaped: " + statements.get(0));
+    }
+
+    @Test
+    void escapeLastKeyOfKeysetConditions() throws Exception {
+        String escapedCondition = "`name` > 'O''Brien \\\\ c'";
+        connection.answer(escapedCondition, List.of(List.of("name")));
+        connection.answer("FROM `ScriptedDB`.`Named`", List.of(List.of("name"), List.of("O'Brien \\ c")));
+
+        TablePager<SampleEntry> pager = connection.getTableContentPaged(NAMED_SCHEME, 1);
+        assertEquals(Optional.of(List.of(new SampleEntry(null, "O'Brien \\ c"))), pager.requestPage());
+        assertEquals(Optional.empty(), pager.requestPage());
+        List<String> executedQueries = connection.getExecutedQueries();
+        assertTrue(executedQueries.get(executedQueries.size() - 1).contains(escapedCondition),
+                "The last key is not escaped: " + executedQueries.get(executedQueries.size() - 1));
+        assertFalse(pager.hasNext());
+    }
+}
@@ -0,0 +1,40 @@
+package bayern.steinbrecher.test.dbConnector.scheme;
+
+import bayern.steinbrecher.dbConnector.scheme.ColumnParser;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the SQL literals {@link ColumnParser#toString(Object)} renders.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class ColumnParserTest {
+    @Test
+    void quoteStrings() {
+        assertEquals("'abc'", ColumnParser.STRING_COLUMN_PARSER.toString("abc"));
+        assertEquals("''", ColumnParser.STRING_COLUMN_PARSER.toString(""));
+    }
+
+    @Test
+    void escapeQuotesAndBackslashesOfStrings() {
+        // NOTE The SQL literal is 'O''Brien \\ c'
+        assertEquals("'O''Brien \\\\ c'", ColumnParser.STRING_COLUMN_PARSER.toString("O'Brien \\ c"));
+        assertEquals("''' OR ''1''=''1'", ColumnParser.STRING_COLUMN_PARSER.toString("' OR '1'='1"));
+    }
+
+    @Test
+    void quoteDates() {
+        assertEquals("'2020-01-02'", ColumnParser.LOCALDATE_COLUMN_PARSER.toString(LocalDate.of(2020, 1, 2)));
+    }
+
+    @Test
+    void renderNullUnquoted() {
+        assertEquals("NULL", ColumnParser.STRING_COLUMN_PARSER.toString(null));
+        assertEquals("NULL", ColumnParser.LOCALDATE_COLUMN_PARSER.toString(null));
+    }
+}
@@ -0,0 +1,45 @@
+package bayern.steinbrecher.test.dbConnector.scheme;
+
+import bayern.steinbrecher.dbConnector.scheme.ColumnParser;
+import bayern.steinbrecher.dbConnector.scheme.ColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.RegexColumnPattern;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks accessing values of columns bound to a {@link RegexColumnPattern}.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class RegexColumnPatternTest {
+    private final AtomicInteger numKeyExtractions = new AtomicInteger();
+    private final ColumnPattern<String, Map<Integer, String>> attributePattern = new RegexColumnPattern<>(
+            "^attribute\\d+$", ColumnParser.STRING_COLUMN_PARSER,
+            (attributes, key, value) -> attributes,
+            columnName -> {
+                numKeyExtractions.incrementAndGet();
+                return Integer.parseInt(columnName.substring("attribute".length()));
+            },
+            Map::get);
+
+    @Test
+    void readValuesOfBoundColumn() {
+        Function<Map<Integer, String>, String> getter = attributePattern.bindGetter("attribute2");
+        assertEquals("b", getter.apply(Map.of(1, "a", 2, "b")));
+        assertEquals("c", getter.apply(Map.of(2, "c")));
+        assertEquals(1, numKeyExtractions.get());
+        assertEquals(getter.apply(Map.of(2, "d")), attributePattern.getValue(Map.of(2, "d"), "attribute2"));
+    }
+
+    @Test
+    void rejectBindingNonMatchingColumn() {
+        assertThrows(IllegalArgumentException.class, () -> attributePattern.bindGetter("name"));
+    }
+}
@@ -0,0 +1,220 @@
+package bayern.steinbrecher.test.dbConnector.scheme;
+
+import bayern.steinbrecher.dbConnector.scheme.ColumnParser;
+import bayern.steinbrecher.dbConnector.scheme.ColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.RegexColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.SimpleColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.TableScheme;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * Compares the time {@link TableScheme#parseFrom(List)} needs for parsing a large query result with the time combining
+ * each cell by {@link ColumnPattern#combine(Object, String, String)} needs, i.e. the way query results were parsed
+ * before the mapping of headings to patterns was compiled once per query result. The scheme consists of 20 columns
+ * whose patterns already existed before.
+ * <p>
+ * Run {@link #main(String[])} using the test runtime classpath, e.g. with {@code -Xmx4g}. The optional arguments are
+ * the number of rows (default 1,000,000), the number of warm-up rounds (default 3) and the number of measured rounds
+ * (default 5). Each round parses the same query result once by each approach.
+ * </p>
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public final class TableSchemeBenchmark {
+    private static final int NUM_STRING_COLUMNS = 6;
+    private static final int NUM_INT_COLUMNS = 6;
+    private static final int NUM_DOUBLE_COLUMNS = 4;
+    private static final int NUM_DATE_COLUMNS = 2;
+    private static final int NUM_ATTRIBUTE_COLUMNS = 2;
+    /**
+     * The number of distinct values per column. The values are shared between rows to keep the query result small.
+     */
+    private static final int NUM_DISTINCT_VALUES = 1_000;
+
+    private TableSchemeBenchmark() {
+        throw new UnsupportedOperationException("Construction of an object is not supported.");
+    }
+
+    @NotNull
+    private static TableScheme<Long, BenchmarkEntry> createScheme() {
+        List<SimpleColumnPattern<?, BenchmarkEntry>> columns = new ArrayList<>();
+        int valueIndex = 0;
+        for (int i = 0; i < NUM_STRING_COLUMNS; i++, valueIndex++) {
+            columns.add(createColumn("string" + i, ColumnParser.STRING_COLUMN_PARSER, valueIndex));
+        }
+        for (int i = 0; i < NUM_INT_COLUMNS; i++, valueIndex++) {
+            columns.add(createColumn("int" + i, ColumnParser.INTEGER_COLUMN_PARSER, valueIndex));
+        }
+        for (int i = 0; i < NUM_DOUBLE_COLUMNS; i++, valueIndex++) {
+            columns.add(createColumn("double" + i, ColumnParser.DOUBLE_COLUMN_PARSER, valueIndex));
+        }
+        for (int i = 0; i < NUM_DATE_COLUMNS; i++, valueIndex++) {
+            columns.add(createColumn("date" + i, ColumnParser.LOCALDATE_COLUMN_PARSER, valueIndex));
+        }
+        return new TableScheme<>(
+                "Benchmark",
+                columns,
+                List.of(new RegexColumnPattern<>("^attribute\\d+$", ColumnParser.STRING_COLUMN_PARSER,
+                        BenchmarkEntry::withAttribute,
+                        columnName -> Integer.parseInt(columnName.substring("attribute".length())),
+                        BenchmarkEntry::getAttribute)),
+                BenchmarkEntry::new,
+                entries -> entries.mapToLong(BenchmarkEntry::checksum).sum()
+        );
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private static <C> SimpleColumnPattern<C, BenchmarkEntry> createColumn(
+            @NotNull String columnName, @NotNull ColumnParser<C> parser, int valueIndex) {
+        return new SimpleColumnPattern<>(columnName, parser,
+                (entry, value) -> entry.withValue(valueIndex, value), entry -> (C) entry.values[valueIndex]);
+    }
+
+    @NotNull
+    private static List<List<String>> generateQueryResult(int numRows) {
+        Random random = new Random(42);
+        List<String> headings = new ArrayList<>();
+        List<String[]> valuePools = new ArrayList<>();
+        addColumns(headings, valuePools, "string", NUM_STRING_COLUMNS, i -> "value" + i);
+        addColumns(headings, valuePools, "int", NUM_INT_COLUMNS, i -> String.valueOf(random.nextInt()));
+        addColumns(headings, valuePools, "double", NUM_DOUBLE_COLUMNS, i -> String.valueOf(random.nextDouble()));
+        addColumns(headings, valuePools, "date", NUM_DATE_COLUMNS,
+                i -> LocalDate.ofEpochDay(random.nextInt(50_000)).toString());
+        for (int i = 0; i < NUM_ATTRIBUTE_COLUMNS; i++) {
+            headings.add("attribute" + i);
+            valuePools.add(valuePools.get(0));
+        }
+
+        List<List<String>> queryResult = new ArrayList<>(numRows + 1);
+        queryResult.add(List.copyOf(headings));
+        for (int i = 0; i < numRows; i++) {
+            String[] row = new String[headings.size()];
+            for (int j = 0; j < row.length; j++) {
+                row[j] = valuePools.get(j)[random.nextInt(NUM_DISTINCT_VALUES)];
+            }
+            queryResult.add(List.of(row));
+        }
+        return queryResult;
+    }
+
+    private static void addColumns(@NotNull List<String> headings, @NotNull List<String[]> valuePools,
+                                   @NotNull String prefix, int numColumns,
+                                   @NotNull IntFunction<String> valueGenerator) {
+        for (int i = 0; i < numColumns; i++) {
+            headings.add(prefix + i);
+            String[] pool = new String[NUM_DISTINCT_VALUES];
+            Arrays.setAll(pool, valueGenerator);
+            valuePools.add(pool);
+        }
+    }
+
+    /**
+     * Parses the given query result like {@link TableScheme#parseFrom(List)} did before compiling the mapping, i.e.
+     * the headings are associated with patterns once but each cell is combined by
+     * {@link ColumnPattern#combine(Object, String, String)} which checks the heading against the pattern again.
+     */
+    private static long parseCombiningEachCell(@NotNull TableScheme<Long, BenchmarkEntry> scheme,
+                                               @NotNull List<List<String>> queryResult) {
+        List<String> headings = queryResult.get(0);
+        Map<ColumnPattern<?, BenchmarkEntry>, List<Integer>> patternToColumnMapping = new LinkedHashMap<>();
+        Stream.concat(scheme.getRequiredColumns().stream(), scheme.getOptionalColumns().stream())
+                .forEach(pattern -> {
+                    List<Integer> targetIndices = new ArrayList<>();
+                    for (int i = 0; i < headings.size(); i++) {
+                        if (pattern.matches(headings.get(i))) {
+                            targetIndices.add(i);
+                        }
+                    }
+                    if (!targetIndices.isEmpty()) {
+                        patternToColumnMapping.put(pattern, targetIndices);
+                    }
+                });
+        long checksum = 0;
+        for (List<String> row : queryResult.subList(1, queryResult.size())) {
+            BenchmarkEntry entry = new BenchmarkEntry();
+            for (Map.Entry<ColumnPattern<?, BenchmarkEntry>, List<Integer>> columnMapping
+                    : patternToColumnMapping.entrySet()) {
+                for (int index : columnMapping.getValue()) {
+                    entry = columnMapping.getKey().combine(entry, headings.get(index), row.get(index));
+                }
+            }
+            checksum += entry.checksum();
+        }
+        return checksum;
+    }
+
+    private static long measureMillis(@NotNull Runnable parsing) {
+        long start = System.nanoTime();
+        parsing.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    public static void main(String[] args) {
+        int numRows = (args.length > 0) ? Integer.parseInt(args[0]) : 1_000_000;
+        int numWarmUpRounds = (args.length > 1) ? Integer.parseInt(args[1]) : 3;
+        int numMeasuredRounds = (args.length > 2) ? Integer.parseInt(args[2]) : 5;
+
+        TableScheme<Long, BenchmarkEntry> scheme = createScheme();
+        List<List<String>> queryResult = generateQueryResult(numRows);
+        long expectedChecksum = parseCombiningEachCell(scheme, queryResult);
+        if (scheme.parseFrom(queryResult) != expectedChecksum) {
+            throw new IllegalStateException("Both approaches have to yield the same entries");
+        }
+        System.out.printf("%d rows x %d columns, %d warm-up rounds, %d measured rounds%n",
+                numRows, queryResult.get(0).size(), numWarmUpRounds, numMeasuredRounds);
+
+        long[] combiningEachCellMillis = new long[numMeasuredRounds];
+        long[] compiledMappingMillis = new long[numMeasuredRounds];
+        for (int round = -numWarmUpRounds; round < numMeasuredRounds; round++) {
+            long combiningEachCell = measureMillis(() -> parseCombiningEachCell(scheme, queryResult));
+            long compiledMapping = measureMillis(() -> scheme.parseFrom(queryResult));
+            if (round >= 0) {
+                combiningEachCellMillis[round] = combiningEachCell;
+                compiledMappingMillis[round] = compiledMapping;
+            }
+        }
+        Arrays.sort(combiningEachCellMillis);
+        Arrays.sort(compiledMappingMillis);
+        System.out.printf("combine per cell: min %d ms, median %d ms%n",
+                combiningEachCellMillis[0], combiningEachCellMillis[numMeasuredRounds / 2]);
+        System.out.printf("compiled mapping: min %d ms, median %d ms%n",
+                compiledMappingMillis[0], compiledMappingMillis[numMeasuredRounds / 2]);
+    }
+
+    private static final class BenchmarkEntry {
+        private final Object[] values
+                = new Object[NUM_STRING_COLUMNS + NUM_INT_COLUMNS + NUM_DOUBLE_COLUMNS + NUM_DATE_COLUMNS];
+        private final Map<Integer, String> attributes = new HashMap<>(NUM_ATTRIBUTE_COLUMNS * 2);
+
+        BenchmarkEntry withValue(int valueIndex, Object value) {
+            values[valueIndex] = value;
+            return this;
+        }
+
+        BenchmarkEntry withAttribute(Integer key, String value) {
+            attributes.put(key, value);
+            return this;
+        }
+
+        String getAttribute(Integer key) {
+            return attributes.get(key);
+        }
+
+        long checksum() {
+            return Arrays.hashCode(values) + attributes.hashCode();
+        }
+    }
+}
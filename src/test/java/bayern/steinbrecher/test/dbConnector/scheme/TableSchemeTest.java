@@ -0,0 +1,206 @@
+package bayern.steinbrecher.test.dbConnector.scheme;
+
+import bayern.steinbrecher.dbConnector.scheme.ColumnParser;
+import bayern.steinbrecher.dbConnector.scheme.ColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.IntColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.RegexColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.SimpleColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.TableScheme;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that parsing query results by the mapping which is compiled once per result yields the same entries as
+ * combining each cell with each pattern matching its heading.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class TableSchemeTest {
+    private static final TableScheme<List<TestEntry>, TestEntry> TEST_TABLE_SCHEME = new TableScheme<>(
+            "TestTable",
+            List.of(
+                    new SimpleColumnPattern<>("stringColumn", ColumnParser.STRING_COLUMN_PARSER,
+                            TestEntry::withAString, TestEntry::aString, Optional.empty(), true, false),
+                    new IntColumnPattern<>("intColumn", TestEntry::withAnInt, TestEntry::anInt),
+                    new SimpleColumnPattern<>("doubleColumn", ColumnParser.DOUBLE_COLUMN_PARSER,
+                            TestEntry::withADouble, TestEntry::aDouble),
+                    new SimpleColumnPattern<>("localDateColumn", ColumnParser.LOCALDATE_COLUMN_PARSER,
+                            TestEntry::withALocalDate, TestEntry::aLocalDate)
+            ),
+            List.of(
+                    new SimpleColumnPattern<>("optionalColumn", ColumnParser.INTEGER_COLUMN_PARSER,
+                            TestEntry::withAnOptionalInteger, TestEntry::anOptionalInteger),
+                    new RegexColumnPattern<>("^regexColumn\\d+$", ColumnParser.STRING_COLUMN_PARSER,
+                            TestEntry::withAssociatedValue,
+                            columnName -> Integer.parseInt(columnName.substring("regexColumn".length())),
+                            TestEntry::getAssociatedValue)
+            ),
+            TestEntry::new,
+            e -> e.collect(Collectors.toList())
+    );
+
+    /**
+     * Parses the given query result like {@link TableScheme#parseFrom(List)} did before compiling the mapping, i.e. by
+     * combining each cell with each pattern matching its heading.
+     */
+    @NotNull
+    private static List<TestEntry> parseCellByCell(@NotNull List<List<String>> queryResult) {
+        List<String> headings = queryResult.get(0);
+        List<ColumnPattern<?, TestEntry>> patterns = Stream.concat(
+                        TEST_TABLE_SCHEME.getRequiredColumns().stream(),
+                        TEST_TABLE_SCHEME.getOptionalColumns().stream())
+                .toList();
+        List<TestEntry> entries = new ArrayList<>();
+        for (List<String> row : queryResult.subList(1, queryResult.size())) {
+            TestEntry entry = new TestEntry();
+            for (ColumnPattern<?, TestEntry> pattern : patterns) {
+                for (int i = 0; i < headings.size(); i++) {
+                    if (pattern.matches(headings.get(i))) {
+                        entry = pattern.combine(entry, headings.get(i), row.get(i));
+                    }
+                }
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    @NotNull
+    private static String generateCell(@NotNull Random random, @NotNull String heading) {
+        return switch (heading) {
+            case "intColumn", "optionalColumn" -> String.valueOf(random.nextInt());
+            case "doubleColumn" -> String.valueOf(random.nextDouble());
+            case "localDateColumn" -> LocalDate.ofEpochDay(random.nextInt(50_000)).toString();
+            default -> "value" + random.nextInt(100);
+        };
+    }
+
+    @NotNull
+    private static List<List<String>> generateQueryResult(@NotNull List<String> headings, int numRows, long seed) {
+        Random random = new Random(seed);
+        List<List<String>> queryResult = new ArrayList<>();
+        queryResult.add(headings);
+        for (int i = 0; i < numRows; i++) {
+            List<String> row = new ArrayList<>(headings.size());
+            for (String heading : headings) {
+                int kind = random.nextInt(10);
+                if (kind == 0) {
+                    row.add(null);
+                } else if (kind == 1) {
+                    row.add("NULL");
+                } else {
+                    row.add(generateCell(random, heading));
+                }
+            }
+            queryResult.add(row);
+        }
+        return queryResult;
+    }
+
+    @Test
+    void parseResultInSchemeOrder() {
+        List<List<String>> queryResult = generateQueryResult(List.of("stringColumn", "intColumn", "doubleColumn",
+                "localDateColumn", "optionalColumn", "regexColumn1", "regexColumn2"), 500, 1);
+        assertEquals(parseCellByCell(queryResult), TEST_TABLE_SCHEME.parseFrom(queryResult));
+    }
+
+    @Test
+    void parseResultInArbitraryOrderWithUnknownColumns() {
+        List<String> headings = new ArrayList<>(List.of("regexColumn7", "unknownColumn", "stringColumn",
+                "regexColumn3", "localDateColumn", "intColumn", "doubleColumn", "anotherUnknownColumn"));
+        Collections.shuffle(headings, new Random(2));
+        List<List<String>> queryResult = generateQueryResult(headings, 500, 3);
+        assertEquals(parseCellByCell(queryResult), TEST_TABLE_SCHEME.parseFrom(queryResult));
+    }
+
+    @Test
+    void parseUnparsableValues() {
+        List<List<String>> queryResult = List.of(
+                List.of("stringColumn", "intColumn", "doubleColumn", "localDateColumn", "optionalColumn"),
+                List.of("a", "noInt", "noDouble", "noDate", "1.5"),
+                List.of("b", "2147483648", "1e400", "2020-13-01", "")
+        );
+        assertEquals(parseCellByCell(queryResult), TEST_TABLE_SCHEME.parseFrom(queryResult));
+    }
+
+    @Test
+    void parseResultsWithDifferentHeadingsUsingTheSameScheme() {
+        List<List<String>> firstResult = generateQueryResult(
+                List.of("stringColumn", "intColumn", "regexColumn1"), 100, 4);
+        List<List<String>> secondResult = generateQueryResult(
+                List.of("intColumn", "regexColumn1", "stringColumn"), 100, 5);
+        for (List<List<String>> queryResult : List.of(firstResult, secondResult, firstResult)) {
+            assertEquals(parseCellByCell(queryResult), TEST_TABLE_SCHEME.parseFrom(queryResult));
+        }
+    }
+
+    @Test
+    void parseEmptyResult() {
+        List<List<String>> queryResult = List.of(List.of("stringColumn", "intColumn"));
+        assertEquals(List.of(), TEST_TABLE_SCHEME.parseFrom(queryResult));
+    }
+
+    @Test
+    void parseInParallel() {
+        List<List<String>> queryResult = generateQueryResult(List.of("stringColumn", "intColumn", "doubleColumn",
+                "localDateColumn", "optionalColumn", "regexColumn1"), 5_000, 6);
+        assertEquals(parseCellByCell(queryResult), TEST_TABLE_SCHEME.parseFrom(queryResult, 1));
+    }
+
+    private record TestEntry(
+            String aString,
+            int anInt,
+            Double aDouble,
+            LocalDate aLocalDate,
+            Integer anOptionalInteger,
+            Map<Integer, String> associatedValues
+    ) {
+        TestEntry() {
+            this(null, 0, null, null, null, Map.of());
+        }
+
+        TestEntry withAString(String aString) {
+            return new TestEntry(aString, anInt, aDouble, aLocalDate, anOptionalInteger, associatedValues);
+        }
+
+        TestEntry withAnInt(int anInt) {
+            return new TestEntry(aString, anInt, aDouble, aLocalDate, anOptionalInteger, associatedValues);
+        }
+
+        TestEntry withADouble(Double aDouble) {
+            return new TestEntry(aString, anInt, aDouble, aLocalDate, anOptionalInteger, associatedValues);
+        }
+
+        TestEntry withALocalDate(LocalDate aLocalDate) {
+            return new TestEntry(aString, anInt, aDouble, aLocalDate, anOptionalInteger, associatedValues);
+        }
+
+        TestEntry withAnOptionalInteger(Integer anOptionalInteger) {
+            return new TestEntry(aString, anInt, aDouble, aLocalDate, anOptionalInteger, associatedValues);
+        }
+
+        String getAssociatedValue(Integer key) {
+            return associatedValues.get(key);
+        }
+
+        TestEntry withAssociatedValue(Integer key, String value) {
+            Map<Integer, String> newAssociatedValues = new HashMap<>(associatedValues);
+            newAssociatedValues.put(key, value);
+            return new TestEntry(aString, anInt, aDouble, aLocalDate, anOptionalInteger, newAssociatedValues);
+        }
+    }
+}
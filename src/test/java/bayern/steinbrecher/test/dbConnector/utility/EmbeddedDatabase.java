@@ -0,0 +1,84 @@
+package bayern.steinbrecher.test.dbConnector.utility;
+
+import bayern.steinbrecher.dbConnector.DBConnection;
+import bayern.steinbrecher.dbConnector.SimpleConnection;
+import bayern.steinbrecher.dbConnector.credentials.SimpleCredentials;
+import bayern.steinbrecher.dbConnector.query.QueryFailedException;
+import bayern.steinbrecher.dbConnector.query.SupportedDBMS;
+import bayern.steinbrecher.dbConnector.scheme.TableScheme;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Runs an embedded database for the tests of a class which need a real DBMS. Register it as static field annotated
+ * with {@link org.junit.jupiter.api.extension.RegisterExtension}. Before all tests of the class the database is started
+ * on a free port and a connection to an empty database named {@link #DB_NAME} is opened. After all tests both are
+ * closed again.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public final class EmbeddedDatabase implements BeforeAllCallback, AfterAllCallback {
+    public static final String DB_NAME = "TestDB";
+    private static final String DB_HOST = "localhost";
+    private static final String DB_USERNAME = "user";
+    private static final String DB_PASSWORD = "password";
+    private DB database;
+    private DBConnection connection;
+
+    @Override
+    public void beforeAll(ExtensionContext context) throws Exception {
+        // NOTE Port 0 lets each test class use a free port
+        database = DB.newEmbeddedDB(DBConfigurationBuilder.newBuilder()
+                .setPort(0)
+                .build());
+        database.start();
+        database.createDB(DB_NAME, DB_USERNAME, DB_PASSWORD);
+        connection = new SimpleConnection(SupportedDBMS.MARIADB, DB_HOST, database.getConfiguration().getPort(),
+                DB_NAME, new SimpleCredentials(DB_USERNAME, DB_PASSWORD), false);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) throws Exception {
+        try {
+            if (connection != null) {
+                connection.close();
+            }
+        } finally {
+            if (database != null) {
+                database.stop();
+            }
+        }
+    }
+
+    /**
+     * Returns the connection to the database {@link #DB_NAME}.
+     */
+    @NotNull
+    public DBConnection getConnection() {
+        if (connection == null) {
+            throw new IllegalStateException("The database is not started yet");
+        }
+        return connection;
+    }
+
+    /**
+     * Returns the quoted name of the given table qualified by {@link #DB_NAME} for using it in SQL code.
+     */
+    @NotNull
+    public String qualify(@NotNull TableScheme<?, ?> scheme) {
+        return String.format("`%s`.`%s`", DB_NAME, scheme.getTableName());
+    }
+
+    /**
+     * Drops the table of the given scheme if it exists and creates it again without any rows.
+     */
+    public void recreateTable(@NotNull TableScheme<?, ?> scheme) throws QueryFailedException {
+        getConnection().execUpdate("DROP TABLE IF EXISTS " + qualify(scheme));
+        getConnection().createTableIfNotExists(scheme);
+    }
+}
@@ -0,0 +1,91 @@
+package bayern.steinbrecher.test.dbConnector.utility;
+
+import bayern.steinbrecher.dbConnector.scheme.ColumnParser;
+import bayern.steinbrecher.dbConnector.scheme.SimpleColumnPattern;
+import bayern.steinbrecher.dbConnector.scheme.TableScheme;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * An immutable entry for tests which need a table in a real database. Depending on the scheme the primary key consists
+ * of {@link #id()} only or of {@link #id()} and {@link #subId()}. Values of columns a scheme does not contain are
+ * {@code null}.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public record SampleEntry(
+        Integer id,
+        Integer subId,
+        String name,
+        Integer version
+) {
+    private static final SimpleColumnPattern<Integer, SampleEntry> ID_COLUMN = new SimpleColumnPattern<>(
+            "id", ColumnParser.INTEGER_COLUMN_PARSER, SampleEntry::withId, SampleEntry::id, Optional.empty(), true,
+            false);
+    private static final SimpleColumnPattern<Integer, SampleEntry> SUB_ID_COLUMN = new SimpleColumnPattern<>(
+            "subId", ColumnParser.INTEGER_COLUMN_PARSER, SampleEntry::withSubId, SampleEntry::subId, Optional.empty(),
+            true, false);
+    private static final SimpleColumnPattern<String, SampleEntry> NAME_COLUMN = new SimpleColumnPattern<>(
+            "name", ColumnParser.STRING_COLUMN_PARSER, SampleEntry::withName, SampleEntry::name);
+    private static final SimpleColumnPattern<Integer, SampleEntry> VERSION_COLUMN = new SimpleColumnPattern<>(
+            "version", ColumnParser.INTEGER_COLUMN_PARSER, SampleEntry::withVersion, SampleEntry::version,
+            Optional.of(Optional.of(0)), false, false);
+
+    public SampleEntry() {
+        this(null, null, null, null);
+    }
+
+    public SampleEntry(Integer id, String name) {
+        this(id, null, name, null);
+    }
+
+    /**
+     * Creates a scheme whose primary key is {@code id} and which has a {@code name} column.
+     */
+    @NotNull
+    public static TableScheme<List<SampleEntry>, SampleEntry> createScheme(@NotNull String tableName) {
+        return new TableScheme<>(tableName, List.of(ID_COLUMN, NAME_COLUMN), List.of(), SampleEntry::new,
+                e -> e.collect(Collectors.toList()));
+    }
+
+    /**
+     * Creates a scheme like {@link #createScheme(String)} which additionally has the version column {@code version}
+     * defaulting to 0.
+     *
+     * @see TableScheme#getVersionColumn()
+     */
+    @NotNull
+    public static TableScheme<List<SampleEntry>, SampleEntry> createVersionedScheme(@NotNull String tableName) {
+        return new TableScheme<>(tableName, List.of(ID_COLUMN, NAME_COLUMN, VERSION_COLUMN), List.of(),
+                SampleEntry::new, e -> e.collect(Collectors.toList()), List.of(), VERSION_COLUMN);
+    }
+
+    /**
+     * Creates a scheme whose primary key consists of {@code id} and {@code subId} and which has a {@code name} column.
+     */
+    @NotNull
+    public static TableScheme<List<SampleEntry>, SampleEntry> createCompositeKeyScheme(@NotNull String tableName) {
+        return new TableScheme<>(tableName, List.of(ID_COLUMN, SUB_ID_COLUMN, NAME_COLUMN), List.of(),
+                SampleEntry::new, e -> e.collect(Collectors.toList()));
+    }
+
+    public SampleEntry withId(Integer id) {
+        return new SampleEntry(id, subId, name, version);
+    }
+
+    public SampleEntry withSubId(Integer subId) {
+        return new SampleEntry(id, subId, name, version);
+    }
+
+    public SampleEntry withName(String name) {
+        return new SampleEntry(id, subId, name, version);
+    }
+
+    public SampleEntry withVersion(Integer version) {
+        return new SampleEntry(id, subId, name, version);
+    }
+}
@@ -0,0 +1,118 @@
+package bayern.steinbrecher.test.dbConnector.utility;
+
+import bayern.steinbrecher.dbConnector.DBConnection;
+import bayern.steinbrecher.dbConnector.query.QueryFailedException;
+import bayern.steinbrecher.dbConnector.query.SupportedDBMS;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A connection which answers queries with predefined results instead of accessing a database. It records all executed
+ * queries and updates. This allows testing logic on top of {@link DBConnection} without a running DBMS.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class ScriptedConnection extends DBConnection {
+    public static final String DB_NAME = "ScriptedDB";
+    private final List<Map.Entry<Predicate<String>, List<List<String>>>> answers = new CopyOnWriteArrayList<>();
+    private final List<String> tableNames = new CopyOnWriteArrayList<>();
+    private final List<String> executedQueries = new CopyOnWriteArrayList<>();
+    private final List<String> executedUpdates = new CopyOnWriteArrayList<>();
+
+    public ScriptedConnection() {
+        super(DB_NAME, SupportedDBMS.MARIADB);
+    }
+
+    /**
+     * Answers all queries which contain the given SQL code with the given result. Answers which are registered earlier
+     * take precedence. Queries for the names of the tables which are not answered explicitly return the names of all
+     * tables added by {@link #addTable(String, List)}.
+     *
+     * @param result The headings followed by the rows to return.
+     */
+    public void answer(@NotNull String sqlPart, @NotNull List<List<String>> result) {
+        answer(sqlCode -> sqlCode.contains(sqlPart), result);
+    }
+
+    private void answer(@NotNull Predicate<String> matcher, @NotNull List<List<String>> result) {
+        answers.add(Map.entry(matcher, result));
+    }
+
+    /**
+     * Lets a table with the given name exist.
+     *
+     * @param columns The name and the SQL type of each column in the order of the columns within the table. All
+     *                columns are nullable.
+     */
+    public void addTable(@NotNull String tableName, @NotNull List<Map.Entry<String, String>> columns) {
+        tableNames.add(tableName);
+        List<List<String>> columnsResult = new ArrayList<>();
+        columnsResult.add(List.of("COLUMN_NAME", "DATA_TYPE", "IS_NULLABLE", "ORDINAL_POSITION"));
+        for (int i = 0; i < columns.size(); i++) {
+            columnsResult.add(
+                    List.of(columns.get(i).getKey(), columns.get(i).getValue(), "YES", String.valueOf(i + 1)));
+        }
+        answer(sqlCode -> sqlCode.contains("`INFORMATION_SCHEMA`.`COLUMNS`")
+                && sqlCode.contains(String.format("= '%s'", tableName)), columnsResult);
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release
+    }
+
+    @Override
+    @NotNull
+    public List<List<String>> execQuery(@NotNull String sqlCode) throws QueryFailedException {
+        executedQueries.add(sqlCode);
+        List<List<String>> result = answers.stream()
+                .filter(answer -> answer.getKey().test(sqlCode))
+                .findFirst()
+                .map(Map.Entry::getValue)
+                .orElse(null);
+        if (result == null) {
+            if (!sqlCode.contains("`INFORMATION_SCHEMA`.`TABLES`")) {
+                throw new QueryFailedException("There is no scripted result for " + sqlCode);
+            }
+            result = new ArrayList<>();
+            result.add(List.of("TABLE_NAME"));
+            for (String tableName : tableNames) {
+                result.add(List.of(tableName));
+            }
+        }
+        return result.stream()
+                .map(row -> row.stream().collect(Collectors.toCollection(ArrayList::new)))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Override
+    public void execUpdate(@NotNull String sqlCode) {
+        executedUpdates.add(sqlCode);
+    }
+
+    /**
+     * Returns all queries executed so far in the order of their execution.
+     */
+    @NotNull
+    @Unmodifiable
+    public List<String> getExecutedQueries() {
+        return List.copyOf(executedQueries);
+    }
+
+    /**
+     * Returns all updates executed so far in the order of their execution.
+     */
+    @NotNull
+    @Unmodifiable
+    public List<String> getExecutedUpdates() {
+        return List.copyOf(executedUpdates);
+    }
+}
@@ -0,0 +1,157 @@
+package bayern.steinbrecher.test.dbConnector.utility;
+
+import bayern.steinbrecher.dbConnector.query.QueryFailedException;
+import bayern.steinbrecher.dbConnector.scheme.TableScheme;
+import bayern.steinbrecher.dbConnector.utility.DBSynchronizer;
+import bayern.steinbrecher.dbConnector.utility.SyncConflictException;
+import bayern.steinbrecher.dbConnector.utility.WriteBehindQueue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks writing changes of synchronized lists to a real database.
+ *
+ * @author Stefan Huber
+ * @since 0.16
+ */
+public class WriteBehindQueueTest {
+    @RegisterExtension
+    static final EmbeddedDatabase DATABASE = new EmbeddedDatabase();
+    private static final TableScheme<List<SampleEntry>, SampleEntry> SCHEME = SampleEntry.createScheme("Person");
+    private static final TableScheme<List<SampleEntry>, SampleEntry> VERSIONED_SCHEME
+            = SampleEntry.createVersionedScheme("VersionedPerson");
+    private final List<Map.Entry<Collection<SampleEntry>, Exception>> failures = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void recreateTables() throws Exception {
+        for (TableScheme<?, ?> scheme : List.of(SCHEME, VERSIONED_SCHEME)) {
+            DATABASE.recreateTable(scheme);
+            DATABASE.getConnection().execUpdate(
+                    "INSERT INTO " + DATABASE.qualify(scheme) + " (`id`, `name`) VALUES (1, 'a'), (2, 'b')");
+        }
+        failures.clear();
+    }
+
+    @NotNull
+    private static List<SampleEntry> readEntries(@NotNull TableScheme<List<SampleEntry>, SampleEntry> scheme)
+            throws Exception {
+        List<SampleEntry> entries = new ArrayList<>(DATABASE.getConnection().getTableContent(scheme));
+        entries.sort(Comparator.comparing(SampleEntry::id));
+        return entries;
+    }
+
+    @NotNull
+    private WriteBehindQueue<SampleEntry> synchronize(@NotNull TableScheme<List<SampleEntry>, SampleEntry> scheme,
+                                                      @NotNull ObservableList<SampleEntry> entries) throws Exception {
+        // NOTE The interval is long enough for flushing explicitly only
+        return new DBSynchronizer<>(scheme, DATABASE.getConnection(), Duration.ofHours(1), Integer.MAX_VALUE,
+                (failedEntries, ex) -> failures.add(Map.entry(failedEntries, ex)))
+                .synchronize(entries);
+    }
+
+    @Test
+    void flushInsertsAndDeletes() throws Exception {
+        ObservableList<SampleEntry> entries = FXCollections.observableArrayList(readEntries(SCHEME));
+        try (WriteBehindQueue<SampleEntry> queue = synchronize(SCHEME, entries)) {
+            entries.remove(0);
+            entries.add(new SampleEntry(3, "O'Brien \\ c"));
+            assertEquals(2, queue.getPendingCount());
+            queue.flush();
+            assertEquals(0, queue.getPendingCount());
+        }
+        assertEquals(List.of(new SampleEntry(2, "b"), new SampleEntry(3, "O'Brien \\ c")), readEntries(SCHEME));
+        assertTrue(failures.isEmpty(), "Unexpected failures: " + failures);
+    }
+
+    @Test
+    void flushUpdates() throws Exception {
+        ObservableList<SampleEntry> entries = FXCollections.observableArrayList(readEntries(SCHEME));
+        try (WriteBehindQueue<SampleEntry> queue = synchronize(SCHEME, entries)) {
+            entries.set(1, entries.get(1).withName("b2"));
+            queue.flush();
+        }
+        assertEquals(List.of(new SampleEntry(1, "a"), new SampleEntry(2, "b2")), readEntries(SCHEME));
+        assertTrue(failures.isEmpty(), "Unexpected failures: " + failures);
+    }
+
+    @Test
+    void coalesceChangesOfTheSameEntry() throws Exception {
+        ObservableList<SampleEntry> entries = FXCollections.observableArrayList(readEntries(SCHEME));
+        try (WriteBehindQueue<SampleEntry> queue = synchronize(SCHEME, entries)) {
+            SampleEntry addedEntry = new SampleEntry(4, "d");
+            entries.add(addedEntry);
+            entries.remove(addedEntry);
+            entries.set(0, entries.get(0).withName("a2"));
+            entries.set(0, entries.get(0).withName("a3"));
+            assertEquals(1, queue.getPendingCount());
+            queue.flush();
+        }
+        assertEquals(List.of(new SampleEntry(1, "a3"), new SampleEntry(2, "b")), readEntries(SCHEME));
+        assertTrue(failures.isEmpty(), "Unexpected failures: " + failures);
+    }
+
+    @Test
+    void rollBackFailedFlush() throws Exception {
+        // NOTE The list does not know the entry having id 2, so adding it again violates the primary key
+        ObservableList<SampleEntry> entries = FXCollections.observableArrayList(readEntries(SCHEME).subList(0, 1));
+        try (WriteBehindQueue<SampleEntry> queue = synchronize(SCHEME, entries)) {
+            entries.remove(0);
+            entries.add(new SampleEntry(2, "duplicate"));
+            queue.flush();
+        }
+        assertEquals(List.of(new SampleEntry(1, "a"), new SampleEntry(2, "b")), readEntries(SCHEME));
+        assertEquals(1, failures.size());
+        assertEquals(2, failures.get(0).getKey().size());
+    }
+
+    @Test
+    void detectConflictingUpdates() throws Exception {
+        ObservableList<SampleEntry> entries = FXCollections.observableArrayList(readEntries(VERSIONED_SCHEME));
+        DATABASE.getConnection().execUpdate("UPDATE " + DATABASE.qualify(VERSIONED_SCHEME)
+                + " SET `name` = 'external', `version` = `version` + 1 WHERE `id` = 1");
+        try (WriteBehindQueue<SampleEntry> queue = synchronize(VERSIONED_SCHEME, entries)) {
+            entries.set(0, entries.get(0).withName("local"));
+            entries.set(1, entries.get(1).withName("b2"));
+            queue.flush();
+            assertEquals(List.of(new SampleEntry(1, null, "external", 1), new SampleEntry(2, null, "b2", 1)),
+                    readEntries(VERSIONED_SCHEME));
+            assertEquals(1, failures.size());
+            assertTrue(failures.get(0).getValue() instanceof SyncConflictException);
+            assertEquals(List.of(new SampleEntry(1, null, "local", 0)), List.copyOf(failures.get(0).getKey()));
+
+            // NOTE The queue has to expect the version it incremented itself
+            entries.set(1, entries.get(1).withName("b3"));
+            queue.flush();
+        }
+        assertEquals(List.of(new SampleEntry(1, null, "external", 1), new SampleEntry(2, null, "b3", 2)),
+                readEntries(VERSIONED_SCHEME));
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    void countAffectedRowsOfAtomicUpdates() throws QueryFailedException {
+        String table = DATABASE.qualify(VERSIONED_SCHEME);
+        List<Long> affectedRows = DATABASE.getConnection().execUpdatesAtomically(List.of(
+                "UPDATE " + table + " SET `version` = `version` + 1 WHERE `id` = 1 AND `version` = 0",
+                "UPDATE " + table + " SET `version` = `version` + 1 WHERE `id` = 2 AND `version` = 5",
+                // NOTE Rows matching the conditions are counted even if their values do not change
+                "UPDATE " + table + " SET `name` = 'b' WHERE `id` = 2"
+        ));
+        assertEquals(List.of(1L, 0L, 1L), affectedRows);
+    }
+}